@@ -76,4 +76,8 @@ public class Constants {
     public static final int LOAD_DAILY_BUDGET_INDEX = 0;
     public static final int LOAD_MONTHLY_BUDGET_INDEX = 1;
     public static final int LOAD_YEARLY_BUDGET_INDEX = 2;
+    public static final String VIRTUAL_RECURRENCE_PROPERTY = "wiagi.virtualRecurrence";
+    public static final String AUTOSAVE_INTERVAL_PROPERTY = "wiagi.autosaveIntervalSeconds";
+    public static final long DEFAULT_AUTOSAVE_INTERVAL_SECONDS = 10;
+    public static final String OUTPUT_FILE_PROPERTY = "wiagi.outputFile";
 }
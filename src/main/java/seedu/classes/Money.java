@@ -0,0 +1,44 @@
+package seedu.classes;
+
+/**
+ * Converts and formats amounts of money kept as a whole number of cents, so that sums of amounts are exact.
+ */
+public class Money {
+    private static final int CENTS_PER_DOLLAR = 100;
+
+    /**
+     * Returns the amount rounded to the nearest cent, in cents.
+     */
+    public static long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_DOLLAR);
+    }
+
+    public static double toAmount(long cents) {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Formats an amount in cents as a whole number if it has no cents, such as {@code 12}, or with two decimal
+     * places otherwise, such as {@code 12.50}.
+     *
+     * @param cents The amount in cents.
+     * @return The formatted amount.
+     */
+    public static String format(long cents) {
+        StringBuilder formatted = new StringBuilder(24);
+        if (cents < 0) {
+            formatted.append('-');
+        }
+        long absoluteCents = Math.abs(cents);
+        formatted.append(absoluteCents / CENTS_PER_DOLLAR);
+        long fraction = absoluteCents % CENTS_PER_DOLLAR;
+        if (fraction != 0) {
+            formatted.append('.');
+            if (fraction < 10) {
+                formatted.append('0');
+            }
+            formatted.append(fraction);
+        }
+        return formatted.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.classes;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Collects the lines printed by {@link Ui} and writes them out together, instead of writing and flushing the
+ * console once per line. A buffered sink holds the output of a command until it is flushed once the command is
+ * done, or before the next input is read, and only writes part of it earlier if it grows past
+ * {@value #BUFFER_LIMIT} characters.
+ *
+ * <p>The console sinks write to {@link System#out} as it is when they are flushed, so output still follows
+ * {@link System#setOut(PrintStream)}. Printing and flushing may be called from several threads, such as from a
+ * shutdown hook while a command is running.
+ */
+public class OutputSink implements Closeable {
+    /** The number of buffered characters past which the output is written out before it is flushed. */
+    static final int BUFFER_LIMIT = 1 << 16;
+
+    private final StringBuilder buffer = new StringBuilder();
+    /** The file written to, or null to write to the console. */
+    private final PrintStream file;
+    private final boolean isFlushedPerLine;
+
+    private OutputSink(PrintStream file, boolean isFlushedPerLine) {
+        this.file = file;
+        this.isFlushedPerLine = isFlushedPerLine;
+    }
+
+    /**
+     * Returns a sink that buffers the output until it is flushed and then writes it to the console.
+     */
+    public static OutputSink toConsole() {
+        return new OutputSink(null, false);
+    }
+
+    /**
+     * Returns a sink that writes each line to the console as soon as it is printed, like
+     * {@code System.out.println}.
+     */
+    public static OutputSink toConsolePerLine() {
+        return new OutputSink(null, true);
+    }
+
+    /**
+     * Returns a sink that streams the output to a file through a large buffer, replacing the file if it exists.
+     * Like the console, the file is written once per flush, and it is closed when the sink is closed.
+     *
+     * @param path The file to write to.
+     * @return The sink writing to the file.
+     * @throws IOException If the file cannot be created.
+     */
+    public static OutputSink toFile(Path path) throws IOException {
+        return new OutputSink(new PrintStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_LIMIT),
+                false), false);
+    }
+
+    /**
+     * Prints a line, which is written out when the sink is next flushed.
+     *
+     * @param line The line to print, without a line separator.
+     */
+    public synchronized void println(String line) {
+        buffer.append(line).append(System.lineSeparator());
+        if (isFlushedPerLine || buffer.length() >= BUFFER_LIMIT) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes out the buffered output. Like {@link PrintStream}, errors are not thrown.
+     */
+    public synchronized void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        PrintStream out = (file == null) ? System.out : file;
+        out.append(buffer);
+        out.flush();
+        buffer.setLength(0);
+    }
+
+    /**
+     * Flushes the output and closes the file written to. The console is left open.
+     */
+    @Override
+    public synchronized void close() {
+        flush();
+        if (file != null) {
+            file.close();
+        }
+    }
+}
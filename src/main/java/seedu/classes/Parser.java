@@ -30,6 +30,9 @@ public class Parser {
     private static final int LIST_CATEGORY_INDEX = 1;
     private static final int LIST_ALL_COMMAND_LENGTH = 1;
     private static final int COMMAND_WORD_ARGUMENT = 0;
+    private static final Recurrence DAILY_RECURRENCE_RULE = new DailyRecurrence();
+    private static final Recurrence MONTHLY_RECURRENCE_RULE = new MonthlyRecurrence();
+    private static final Recurrence YEARLY_RECURRENCE_RULE = new YearlyRecurrence();
 
     public static Command parseUserInput(String fullCommand) {
         String command = fullCommand.split(WHITESPACE)[COMMAND_WORD_ARGUMENT].toLowerCase();
@@ -81,11 +84,11 @@ public class Parser {
 
         switch (frequency) {
         case DAILY:
-            return new DailyRecurrence();
+            return DAILY_RECURRENCE_RULE;
         case MONTHLY:
-            return new MonthlyRecurrence();
+            return MONTHLY_RECURRENCE_RULE;
         case YEARLY:
-            return new YearlyRecurrence();
+            return YEARLY_RECURRENCE_RULE;
         default:
             return null;
         }
@@ -3,16 +3,18 @@ package seedu.classes;
 import seedu.commands.Command;
 import seedu.exception.WiagiInvalidInputException;
 import seedu.exception.WiagiStorageCorruptedException;
-import seedu.type.Income;
 import seedu.type.IncomeList;
-import seedu.type.Spending;
 import seedu.type.SpendingList;
+import seedu.type.EntryList;
 import seedu.type.EntryType;
+import seedu.type.IndexedEntry;
 
 import java.io.ByteArrayInputStream;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Scanner;
 
 import static seedu.classes.Constants.ALL_TIME_OPTION;
@@ -29,6 +31,7 @@ public class Ui {
     private static final String INCOME = "Incomes";
     private static final String SPENDING = "Spendings";
     private static Scanner scanner = new Scanner(System.in);
+    private static OutputSink output = OutputSink.toConsolePerLine();
 
     public static void userInputForTest(String data) {
         ByteArrayInputStream testIn = new ByteArrayInputStream(data.getBytes());
@@ -41,7 +44,25 @@ public class Ui {
         c.execute(incomes, spendings);
     }
 
+    /**
+     * Sets where the output is printed to, after flushing the output printed so far.
+     *
+     * @param sink The sink to print to, which the caller closes when it is no longer used.
+     */
+    public static void setOutput(OutputSink sink) {
+        output.flush();
+        output = sink;
+    }
+
+    /**
+     * Writes out the output printed so far, such as once a command is done.
+     */
+    public static void flushOutput() {
+        output.flush();
+    }
+
     public static String readCommand() {
+        output.flush();
         String line = scanner.nextLine().trim();
         assert line != null : "Input line is null";
         printSeparator();
@@ -53,11 +74,11 @@ public class Ui {
         printWithTab(SEPARATOR);
     }
     public static void printWithTab(String message) {
-        System.out.println(TAB + message);
+        output.println(TAB + message);
     }
 
     public static void printWithDoubleTab(String message) {
-        System.out.println(TAB+TAB + message);
+        output.println(TAB + TAB + message);
     }
     public static void welcome() {
         printSeparator();
@@ -75,21 +96,24 @@ public class Ui {
     }
 
     public static void printSpendingStatistics(SpendingList spendings) {
-        printWithDoubleTab("Daily spendings: " + formatPrintDouble(spendings.getDailySpending()));
-        printWithDoubleTab("Daily Budget: " + formatPrintDouble(spendings.getDailyBudget()));
-        printWithDoubleTab("Daily budget left: " + formatPrintDouble(spendings.getDailyBudget() -
-                spendings.getDailySpending()));
-        printWithDoubleTab("Monthly spendings: " + formatPrintDouble(spendings.getMonthlySpending()));
-        printWithDoubleTab("Monthly Budget: " + formatPrintDouble(spendings.getMonthlyBudget()));
+        LocalDate today = WiagiClock.getToday();
+        long dailySpending = spendings.getDailySpendingInCents(today);
+        long monthlySpending = spendings.getMonthlySpendingInCents(today);
+        long yearlySpending = spendings.getYearlySpendingInCents(today);
+        printWithDoubleTab("Daily spendings: " + Money.format(dailySpending));
+        printWithDoubleTab("Daily Budget: " + Money.format(spendings.getDailyBudgetInCents()));
+        printWithDoubleTab("Daily budget left: " + Money.format(spendings.getDailyBudgetInCents() - dailySpending));
+        printWithDoubleTab("Monthly spendings: " + Money.format(monthlySpending));
+        printWithDoubleTab("Monthly Budget: " + Money.format(spendings.getMonthlyBudgetInCents()));
         printWithDoubleTab("Monthly budget left: " +
-                formatPrintDouble(spendings.getMonthlyBudget() - spendings.getMonthlySpending()));
-        printWithDoubleTab("Yearly spendings: " + formatPrintDouble(spendings.getYearlySpending()));
-        printWithDoubleTab("Yearly Budget: " + formatPrintDouble(spendings.getYearlyBudget()));
-        printWithDoubleTab("Yearly budget left: " + formatPrintDouble(spendings.getYearlyBudget() -
-                spendings.getYearlySpending()));
+                Money.format(spendings.getMonthlyBudgetInCents() - monthlySpending));
+        printWithDoubleTab("Yearly spendings: " + Money.format(yearlySpending));
+        printWithDoubleTab("Yearly Budget: " + Money.format(spendings.getYearlyBudgetInCents()));
+        printWithDoubleTab("Yearly budget left: " +
+                Money.format(spendings.getYearlyBudgetInCents() - yearlySpending));
     }
 
-    public static <T extends EntryType> void printArrList(ArrayList<T> arrList) {
+    public static <T extends EntryType> void printArrList(EntryList<T> arrList) {
         String typeOfList;
         if (arrList instanceof SpendingList) {
             typeOfList = SPENDING;
@@ -97,36 +121,30 @@ public class Ui {
             typeOfList = INCOME;
         }
         printWithTab(typeOfList);
-        printWithTab("Total " + typeOfList.toLowerCase() + ": " + printList(arrList));
+        printWithTab("Total " + typeOfList.toLowerCase() + ": " + printList(arrList.getEntriesWithOccurrences()));
 
     }
 
     /**
-     * Prints the elements of the given ArrayList and calculates the sum of their amounts.
+     * Prints the elements of the given list and calculates the sum of their amounts.
      *
-     * @param <T>     The type of elements in the ArrayList, which must extend the Type class.
-     * @param arrList The ArrayList containing elements to be printed and summed.
-     * @return The sum of the amounts of the elements in the ArrayList as a String.
+     * @param <T>     The type of elements in the list, which must extend the Type class.
+     * @param arrList The list containing elements to be printed and summed.
+     * @return The sum of the amounts of the elements in the list as a String.
      */
-    public static <T> String printList(ArrayList<T> arrList) {
-        double sumOfAmountInList = 0;
+    public static <T> String printList(List<T> arrList) {
+        long sumOfAmountInList = 0;
         for (int indexInList = 0; indexInList < arrList.size(); indexInList++) {
             assert arrList != null : "ArrayList is null";
             int indexToUser = indexInList + 1;
-            sumOfAmountInList += ((EntryType) arrList.get(indexInList)).getAmount();
+            sumOfAmountInList += ((EntryType) arrList.get(indexInList)).getAmountInCents();
             printWithTab(indexToUser + ". " + arrList.get(indexInList));
         }
-        return formatPrintDouble(sumOfAmountInList);
+        return Money.format(sumOfAmountInList);
     }
 
     public static String formatPrintDouble(double sum) {
-        if (sum % 1 == 0) { //it is an integer
-            return String.valueOf((int) sum);
-        }
-        // not integer
-
-        sum = Math.round(sum * 100.0) / 100.0;
-        return String.format("%.02f", sum);
+        return Money.format(Money.toCents(sum));
     }
 
     //@@author wongwh2002
@@ -146,22 +164,11 @@ public class Ui {
 
     //@@author wongwh2002
     private static ArrayList<String> getStrings(IncomeList incomes, SpendingList spendings) {
-        ArrayList<String> tags = new ArrayList<>();
-        tags.add(EMPTY_STRING);
+        HashSet<String> tagSet = new HashSet<>(incomes.getTags());
+        tagSet.addAll(spendings.getTags());
+        tagSet.remove(EMPTY_STRING);
+        ArrayList<String> tags = new ArrayList<>(tagSet);
         assert tags != null : "Tags list is null";
-        for (Income income : incomes) {
-            String tag = income.getTag();
-            if (!tags.contains(tag)) {
-                tags.add(tag);
-            }
-        }
-        for (Spending spending : spendings) {
-            String tag = spending.getTag();
-            if (!tags.contains(tag)) {
-                tags.add(tag);
-            }
-        }
-        tags.remove(EMPTY_STRING);
         return tags;
     }
 
@@ -196,102 +203,110 @@ public class Ui {
     }
 
     //@@author wongwh2002
-    private static <T extends EntryType> int getTagsCount(ArrayList<T> arrList, String tag,
+    private static <T extends EntryType> int getTagsCount(EntryList<T> arrList, String tag,
                                         StringBuilder sb, String listName) {
         sb.append(listName).append(System.lineSeparator());
-        int tagsCount = 0;
-        for (int i = 0; i < arrList.size(); i++) {
-            EntryType listIndex = arrList.get(i);
-            if (listIndex.getTag().equals(tag)) {
-                tagsCount++;
-                int oneIndexedI = i + 1;
-                sb.append(TAB).append(oneIndexedI).append(". ")
-                        .append(listIndex).append(System.lineSeparator());
-            }
+        ArrayList<IndexedEntry<T>> taggedEntries = arrList.findWithTag(tag);
+        for (IndexedEntry<T> taggedEntry : taggedEntries) {
+            int oneIndexedI = taggedEntry.getIndex() + 1;
+            sb.append(TAB).append(oneIndexedI).append(". ")
+                    .append(taggedEntry.getEntry()).append(System.lineSeparator());
         }
-        return tagsCount;
+        return taggedEntries.size();
     }
 
-    public static void printOverspendMessage(String budgetType, double overspendAmount) {
-        overspendAmount *= -1;
+    public static void printOverspendMessage(String budgetType, long budgetLeftInCents) {
         printWithTab("!!! You have overspent your " + budgetType + " by: " +
-                formatPrintDouble(overspendAmount) + " !!!");
+                Money.format(-budgetLeftInCents) + " !!!");
     }
 
     //@@author wx-03
-    public static <T extends EntryType> void printWeekly(ArrayList<T> arrList) {
+    public static <T extends EntryType> void printWeekly(List<T> arrList, int notLoadedCount) {
         StringBuilder filteredListString = new StringBuilder();
-        LocalDate currDate = LocalDate.now();
+        LocalDate currDate = WiagiClock.getToday();
         LocalDate monday = getMondayDate(currDate);
         LocalDate sunday = getSundayDate(currDate);
-        double sum = 0.0;
+        long sumInCents = 0;
         for (int indexInList = 0; indexInList < arrList.size(); indexInList++) {
             EntryType entry = arrList.get(indexInList);
-            int indexToUser = indexInList + 1;
+            int indexToUser = notLoadedCount + indexInList + 1;
             if (isInRange(entry.getDate(), monday, sunday)) {
                 filteredListString.append(TAB).append(indexToUser).append(". ")
                         .append(entry).append(System.lineSeparator());
-                sum += entry.getAmount();
+                sumInCents += entry.getAmountInCents();
             }
         }
         printWithTab(filteredListString.toString().strip());
-        printWithTab("Total: " + formatPrintDouble(sum));
+        printWithTab("Total: " + Money.format(sumInCents));
     }
 
-    public static <T extends EntryType> void printMonthly(ArrayList<T> arrList) {
-        LocalDate currDate = LocalDate.now();
+    public static <T extends EntryType> void printMonthly(List<T> arrList, int notLoadedCount) {
+        LocalDate currDate = WiagiClock.getToday();
         LocalDate monthStart = LocalDate.of(currDate.getYear(), currDate.getMonth(), 1);
         LocalDate monthEnd = monthStart.plusDays(currDate.getMonth().length(currDate.isLeapYear()) - 1);
         StringBuilder filteredListString = new StringBuilder();
-        double sum = 0.0;
+        long sumInCents = 0;
         for (int indexInList = 0; indexInList < arrList.size(); indexInList++) {
             EntryType entry = arrList.get(indexInList);
-            int indexToUser = indexInList + 1;
+            int indexToUser = notLoadedCount + indexInList + 1;
             if (isInRange(entry.getDate(), monthStart, monthEnd)) {
                 filteredListString.append(TAB).append(indexToUser).append(". ")
                         .append(entry).append(System.lineSeparator());
-                sum += entry.getAmount();
+                sumInCents += entry.getAmountInCents();
             }
         }
         printWithTab(filteredListString.toString().strip());
-        printWithTab("Total: " + formatPrintDouble(sum));
+        printWithTab("Total: " + Money.format(sumInCents));
     }
 
-    public static <T extends EntryType> void printBiweekly(ArrayList<T> arrList) {
-        LocalDate currDate = LocalDate.now();
+    public static <T extends EntryType> void printBiweekly(List<T> arrList, int notLoadedCount) {
+        LocalDate currDate = WiagiClock.getToday();
         LocalDate start = getMondayDate(currDate.minusDays(7));
         LocalDate end = getSundayDate(currDate);
         StringBuilder filteredListString = new StringBuilder();
-        double sum = 0.0;
+        long sumInCents = 0;
         for (int indexInList = 0; indexInList < arrList.size(); indexInList++) {
             EntryType entry = arrList.get(indexInList);
-            int indexToUser = indexInList + 1;
+            int indexToUser = notLoadedCount + indexInList + 1;
             if (isInRange(entry.getDate(), start, end)) {
                 filteredListString.append(TAB).append(indexToUser).append(". ")
                         .append(entry).append(System.lineSeparator());
-                sum += entry.getAmount();
+                sumInCents += entry.getAmountInCents();
             }
         }
         printWithTab(filteredListString.toString().strip());
-        printWithTab("Total: " + formatPrintDouble(sum));
+        printWithTab("Total: " + Money.format(sumInCents));
     }
 
     //@@author wx-03
-    public static <T extends EntryType> boolean printListOfTimeRange(ArrayList<T> arrList) {
+    /**
+     * Asks for a time range and prints the entries of the list in it, loading the stored entries of past years
+     * that the range needs first. The entries are printed with the positions that delete and edit take, which
+     * also count the stored entries left unloaded, as those all come before the range.
+     *
+     * @return True if all entries should be listed, which loads every stored entry of the list.
+     */
+    public static <T extends EntryType> boolean printListOfTimeRange(EntryList<T> list) {
+        LocalDate today = WiagiClock.getToday();
+        int notLoadedCount;
         while (true) {
             printWithTab(TIME_RANGE_MESSAGE);
             String userInput = readCommand();
             switch (userInput) {
             case ALL_TIME_OPTION:
+                list.loadHistory();
                 return true;
             case WEEKLY_OPTION:
-                printWeekly(arrList);
+                notLoadedCount = list.loadHistoryFrom(getMondayDate(today));
+                printWeekly(list.getEntriesWithOccurrences(), notLoadedCount);
                 return false;
             case BIWEEKLY_OPTION:
-                printBiweekly(arrList);
+                notLoadedCount = list.loadHistoryFrom(getMondayDate(today.minusDays(7)));
+                printBiweekly(list.getEntriesWithOccurrences(), notLoadedCount);
                 return false;
             case MONTHLY_OPTION:
-                printMonthly(arrList);
+                notLoadedCount = list.loadHistoryFrom(today.withDayOfMonth(1));
+                printMonthly(list.getEntriesWithOccurrences(), notLoadedCount);
                 return false;
             default:
                 printWithTab("Invalid input");
@@ -319,7 +334,7 @@ public class Ui {
 
     public static <T extends EntryType> boolean hasRecurrenceBacklog(T toAdd) {
         printWithTab("Do you want to backlog recurrence entries from " + toAdd.getDate() + " to "
-                + LocalDate.now() + " if any? [Y/N]");
+                + WiagiClock.getToday() + " if any? [Y/N]");
         while (true) {
             String userInput = readCommand().toLowerCase();
             switch (userInput) {
@@ -352,12 +367,12 @@ public class Ui {
                 && (date.isBefore(end) || date.isEqual(end));
     }
 
-    public static <T extends EntryType> void printFindResults(ArrayList<T> findResults, ArrayList<T> list) {
+    public static <T extends EntryType> void printFindResults(ArrayList<IndexedEntry<T>> findResults) {
         if (findResults.isEmpty()) {
             printWithTab("No entries found match the criteria.");
         } else {
             printWithTab("Here are the matching results:");
-            findResults.forEach(entry -> printWithTab((list.indexOf(entry)+1) + ": " + entry.toString()));
+            findResults.forEach(result -> printWithTab((result.getIndex() + 1) + ": " + result.getEntry()));
         }
     }
 
@@ -386,9 +401,9 @@ public class Ui {
         printWithTab("Hmmmm, seems to have some issues loading your password, hard resetting... deleting files...");
     }
 
-    public static void handleCorruptedEntry(WiagiStorageCorruptedException e, long counter) {
+    public static void handleCorruptedEntry(WiagiStorageCorruptedException e, long counter, String fileName) {
         Ui.printWithTab(e.getMessage());
-        Ui.printWithTab("Detected at line " + counter + " in the incomes file.");
+        Ui.printWithTab("Detected at line " + counter + " in " + fileName + ".");
         Ui.printWithTab("Deleting corrupted entry...");
     }
 }
@@ -0,0 +1,51 @@
+package seedu.classes;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Holds the clock used by the application and the current date read from it.
+ * The current date is read once per command with {@link #refresh()}, so recurrences, budgets and list views all
+ * see the same date without reading the system clock again.
+ */
+public class WiagiClock {
+    private static Clock clock = Clock.systemDefaultZone();
+    private static LocalDate today = LocalDate.now(clock);
+
+    /**
+     * Returns the current date as of the last refresh.
+     *
+     * @return The current date.
+     */
+    public static LocalDate getToday() {
+        return today;
+    }
+
+    /**
+     * Reads the current date from the clock again.
+     *
+     * @return The current date.
+     */
+    public static LocalDate refresh() {
+        today = LocalDate.now(clock);
+        return today;
+    }
+
+    /**
+     * Replaces the clock, e.g. with a fixed clock for tests and benchmarks, and reads the current date from it.
+     *
+     * @param newClock The clock to use.
+     */
+    public static void setClock(Clock newClock) {
+        assert newClock != null : "clock should not be null";
+        clock = newClock;
+        refresh();
+    }
+
+    /**
+     * Goes back to the system clock in the default time zone.
+     */
+    public static void useSystemClock() {
+        setClock(Clock.systemDefaultZone());
+    }
+}
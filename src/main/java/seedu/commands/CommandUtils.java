@@ -1,5 +1,6 @@
 package seedu.commands;
 
+import seedu.classes.Money;
 import seedu.exception.WiagiInvalidInputException;
 
 import java.time.LocalDate;
@@ -13,16 +14,26 @@ import static seedu.classes.Constants.INVALID_AMOUNT_ZERO;
 public class CommandUtils {
 
     public static double formatAmount(String stringAmount, String commandFormat) {
+        return Money.toAmount(parseCents(stringAmount, commandFormat));
+    }
+
+    /**
+     * Parses a positive amount entered by the user, rounded to the nearest cent.
+     *
+     * @return The amount in cents.
+     * @throws WiagiInvalidInputException If the amount is not a number, or is not positive once rounded.
+     */
+    public static long parseCents(String stringAmount, String commandFormat) {
         try {
             double doubleAmount = Double.parseDouble(stringAmount);
             if (doubleAmount <= 0) {
                 throw new WiagiInvalidInputException(INVALID_AMOUNT + commandFormat);
             }
-            double newAmount =  Math.round(doubleAmount * 100.0) / 100.0; //round to 2dp
-            if (newAmount <= 0) {
+            long cents = Money.toCents(doubleAmount);
+            if (cents <= 0) {
                 throw new WiagiInvalidInputException(INVALID_AMOUNT_ZERO + commandFormat);
             }
-            return newAmount;
+            return cents;
         } catch (NumberFormatException nfe) {
             throw new WiagiInvalidInputException(AMOUNT_NOT_NUMBER + commandFormat);
         }
@@ -5,10 +5,11 @@ import seedu.classes.WiagiLogger;
 import seedu.exception.WiagiInvalidIndexException;
 import seedu.exception.WiagiInvalidInputException;
 import seedu.exception.WiagiMissingParamsException;
+import seedu.type.EntryList;
+import seedu.type.EntryType;
 import seedu.type.IncomeList;
 import seedu.type.SpendingList;
 
-import java.util.ArrayList;
 import java.util.logging.Level;
 
 import static seedu.classes.Constants.DELETE_COMMAND_FORMAT;
@@ -70,11 +71,12 @@ public class DeleteCommand extends Command {
         return arguments;
     }
 
-    private <T> void deleteEntry(String[] arguments, ArrayList<T> arrList) throws WiagiInvalidIndexException {
+    private <T extends EntryType> void deleteEntry(String[] arguments, EntryList<T> arrList)
+            throws WiagiInvalidIndexException {
         String stringIndex = arguments[INDEX_OF_ENTRY_INDEX];
         try {
             int index = Integer.parseInt(stringIndex) - 1;
-            arrList.remove(index);
+            arrList.removeById(arrList.toEntryId(index));
         } catch (NumberFormatException e) {
             throw new WiagiInvalidInputException(INDEX_NOT_INTEGER + DELETE_COMMAND_FORMAT);
         } catch (IndexOutOfBoundsException e) {
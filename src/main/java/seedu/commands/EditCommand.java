@@ -6,10 +6,9 @@ import seedu.exception.WiagiInvalidInputException;
 import seedu.exception.WiagiMissingParamsException;
 import seedu.type.IncomeList;
 import seedu.type.SpendingList;
+import seedu.type.EntryList;
 import seedu.type.EntryType;
 
-import java.util.ArrayList;
-
 import static seedu.classes.Constants.EDIT_COMMAND_FORMAT;
 import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
 import static seedu.classes.Constants.INDEX_NOT_INTEGER;
@@ -80,24 +79,24 @@ public class EditCommand extends Command {
         return arguments;
     }
 
-    private <T extends EntryType> void editList(String[] arguments, ArrayList<T> list)
+    private <T extends EntryType> void editList(String[] arguments, EntryList<T> list)
             throws WiagiInvalidIndexException {
         String index = arguments[INDEX_OF_ENTRY_INDEX];
-        EntryType entryToEdit = extractEntry(list, index);
+        T entryToEdit = extractEntry(list, index);
         String newValue = arguments[NEW_VALUE_INDEX];
         String category = arguments[CATEGORY_INDEX];
         switch (category) {
         case AMOUNT_CATEGORY:
-            entryToEdit.editAmount(newValue);
+            list.editEntry(entryToEdit, entry -> entry.editAmount(newValue));
             break;
         case DESCRIPTION_CATEGORY:
-            entryToEdit.editDescription(newValue);
+            list.editEntry(entryToEdit, entry -> entry.editDescription(newValue));
             break;
         case DATE_CATEGORY:
-            entryToEdit.editDate(newValue);
+            list.editEntry(entryToEdit, entry -> entry.editDate(newValue));
             break;
         case TAG_CATEGORY:
-            entryToEdit.editTag(newValue);
+            list.editEntry(entryToEdit, entry -> entry.editTag(newValue));
             break;
         default:
             throw new WiagiInvalidInputException(INVALID_FIELD + EDIT_COMMAND_FORMAT);
@@ -105,11 +104,11 @@ public class EditCommand extends Command {
         Ui.printWithTab("Edit Successful!");
     }
 
-    private <T extends EntryType> EntryType extractEntry(ArrayList<T> list, String stringIndex)
+    private <T extends EntryType> T extractEntry(EntryList<T> list, String stringIndex)
             throws WiagiInvalidIndexException {
         try {
             int index = Integer.parseInt(stringIndex) - 1;
-            return list.get(index);
+            return list.findById(list.toEntryId(index));
         } catch (NumberFormatException e) {
             throw new WiagiInvalidIndexException(INDEX_NOT_INTEGER);
         } catch (IndexOutOfBoundsException e) {
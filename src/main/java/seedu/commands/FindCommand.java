@@ -8,11 +8,12 @@ import seedu.type.Income;
 import seedu.type.IncomeList;
 import seedu.type.Spending;
 import seedu.type.SpendingList;
+import seedu.type.EntryList;
 import seedu.type.EntryType;
+import seedu.type.IndexedEntry;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 import static seedu.classes.Constants.FIND_COMMAND_FORMAT;
 import static seedu.classes.Constants.FIND_RANGE_DIVIDER;
@@ -71,12 +72,12 @@ public class FindCommand extends Command {
         String typeOfList = arguments[LIST_TYPE_INDEX];
         switch (typeOfList) {
         case INCOME:
-            ArrayList<Income> incomeFindResults = findList(arguments, incomes);
-            Ui.printFindResults(incomeFindResults, incomes);
+            ArrayList<IndexedEntry<Income>> incomeFindResults = findList(arguments, incomes);
+            Ui.printFindResults(incomeFindResults);
             break;
         case SPENDING:
-            ArrayList<Spending> spendingFindResults = findList(arguments, spendings);
-            Ui.printFindResults(spendingFindResults, spendings);
+            ArrayList<IndexedEntry<Spending>> spendingFindResults = findList(arguments, spendings);
+            Ui.printFindResults(spendingFindResults);
             break;
         default:
             throw new WiagiInvalidInputException(INVALID_CATEGORY + FIND_COMMAND_FORMAT);
@@ -91,7 +92,7 @@ public class FindCommand extends Command {
         return arguments;
     }
 
-    private <T extends EntryType> ArrayList<T> findList(String[] arguments, ArrayList<T> list) {
+    private <T extends EntryType> ArrayList<IndexedEntry<T>> findList(String[] arguments, EntryList<T> list) {
         String findValue = arguments[VALUE_TO_FIND_INDEX];
         assert !findValue.isEmpty() : "Find value should not be empty";
         String field = arguments[FIELD_INDEX];
@@ -107,7 +108,8 @@ public class FindCommand extends Command {
         }
     }
 
-    private <T extends EntryType> ArrayList<T> getMatchingAmount(String findValue, ArrayList<T> list) {
+    private <T extends EntryType> ArrayList<IndexedEntry<T>> getMatchingAmount(String findValue,
+            EntryList<T> list) {
         double lower;
         double upper;
         if (findValue.contains(FIND_RANGE_DIVIDER)) { // range
@@ -120,18 +122,18 @@ public class FindCommand extends Command {
         } else { // exact
             lower = upper = CommandUtils.formatAmount(findValue, FIND_COMMAND_FORMAT);
         }
-        return list.stream()
-                .filter(entry -> entry.getAmount() >= lower && entry.getAmount() <= upper)
-                .collect(Collectors.toCollection(ArrayList::new));
+        list.loadHistory();
+        return list.getEntriesWithAmountBetween(lower, upper);
     }
 
-    private <T extends EntryType> ArrayList<T> getMatchingDescription(String findValue, ArrayList<T> list) {
-        return list.stream()
-                .filter(entry -> entry.getDescription().contains(findValue))
-                .collect(Collectors.toCollection(ArrayList::new));
+    private <T extends EntryType> ArrayList<IndexedEntry<T>> getMatchingDescription(String findValue,
+            EntryList<T> list) {
+        list.loadHistory();
+        return list.findByDescription(findValue);
     }
 
-    private <T extends EntryType> ArrayList<T> getMatchingDate(String findValue, ArrayList<T> list) {
+    private <T extends EntryType> ArrayList<IndexedEntry<T>> getMatchingDate(String findValue,
+            EntryList<T> list) {
         LocalDate lower;
         LocalDate upper;
         if (findValue.contains(FIND_RANGE_DIVIDER)) {
@@ -144,9 +146,11 @@ public class FindCommand extends Command {
         } else {
             lower = upper = CommandUtils.formatDate(findValue, FIND_COMMAND_FORMAT);
         }
-        return list.stream()
-                .filter(entry -> entry.getDate().isAfter(lower.minusDays(1))
-                        && entry.getDate().isBefore(upper.plusDays(1)))
-                .collect(Collectors.toCollection(ArrayList::new));
+        int notLoadedCount = list.loadHistoryFrom(lower);
+        ArrayList<IndexedEntry<T>> matches = new ArrayList<>();
+        for (IndexedEntry<T> match : list.getEntriesBetween(lower, upper)) {
+            matches.add(new IndexedEntry<>(notLoadedCount + match.getIndex(), match.getEntry()));
+        }
+        return matches;
     }
 }
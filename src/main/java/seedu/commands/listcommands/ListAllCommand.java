@@ -18,6 +18,8 @@ public class ListAllCommand extends Command {
     @Override
     public void execute(IncomeList incomes, SpendingList spendings) {
         assert arguments[0].equals(COMMAND_WORD) : "command should be 'list'";
+        spendings.loadHistory();
+        incomes.loadHistory();
         Ui.printArrList(spendings);
         Ui.printArrList(incomes);
     }
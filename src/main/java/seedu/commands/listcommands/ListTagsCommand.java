@@ -31,6 +31,8 @@ public class ListTagsCommand extends Command {
     }
 
     private void handleCommand(IncomeList incomes, SpendingList spendings) throws WiagiMissingParamsException {
+        incomes.loadHistory();
+        spendings.loadHistory();
         if (arguments.length < LIST_SPECIFIC_TAG_LENGTH) {
             Ui.printAllTags(incomes, spendings);
         } else {
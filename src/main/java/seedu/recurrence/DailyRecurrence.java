@@ -1,11 +1,9 @@
 package seedu.recurrence;
 
-import seedu.type.Income;
-import seedu.type.IncomeList;
-import seedu.type.Spending;
-import seedu.type.SpendingList;
+import seedu.type.EntryType;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Used to manage recurring entries labelled as daily recurrence in the user's {@code IncomeList} and
@@ -15,40 +13,26 @@ public class DailyRecurrence extends Recurrence{
     private static final int DAILY_FREQUENCY = 1;
 
     @Override
-    public void checkIncomeRecurrence(Income recurringIncome, IncomeList incomes, boolean isAdding) {
-        LocalDate lastRecurred = recurringIncome.getLastRecurrence();
-        assert lastRecurred != null : "should only be checking entries with recurrence, " +
-                "lastRecurred should be initialised";
-        LocalDate checkDate = lastRecurred.plusDays(DAILY_FREQUENCY);
-        while (!checkDate.isAfter(LocalDate.now())) {
-            Income newEntry = new Income(recurringIncome);
-            newEntry.editDateWithLocalDate(checkDate);
-            if (isAdding) {
-                incomes.add(newEntry);
-            }
-            checkDate = checkDate.plusDays(DAILY_FREQUENCY);
-        }
-        checkDate = checkDate.minusDays(DAILY_FREQUENCY);
-        assert checkDate.equals(LocalDate.now()) : "last recurred should be today";
-        recurringIncome.editLastRecurrence(checkDate);
+    public LocalDate getNextCheckDate(LocalDate checkDate) {
+        return checkDate.plusDays(DAILY_FREQUENCY);
     }
 
+    /**
+     * Returns the given date, as daily recurrences are not moved to a day of the month.
+     */
     @Override
-    public void checkSpendingRecurrence(Spending recurringSpending, SpendingList spendings, boolean isAdding) {
-        LocalDate lastRecurred = recurringSpending.getLastRecurrence();
-        assert lastRecurred != null : "should only be checking entries with recurrence, " +
-                "lastRecurred should be initialised";
-        LocalDate checkDate = lastRecurred.plusDays(DAILY_FREQUENCY);
-        while (!checkDate.isAfter(LocalDate.now())) {
-            Spending newEntry = new Spending(recurringSpending);
-            newEntry.editDateWithLocalDate(checkDate);
-            if (isAdding) {
-                spendings.add(newEntry);
-            }
-            checkDate = checkDate.plusDays(DAILY_FREQUENCY);
-        }
-        checkDate = checkDate.minusDays(DAILY_FREQUENCY);
-        assert checkDate.equals(LocalDate.now()) : "last recurred should be today";
-        recurringSpending.editLastRecurrence(checkDate);
+    public LocalDate getOccurrenceDate(EntryType recurringEntry, LocalDate checkDate) {
+        return checkDate;
+    }
+
+    /**
+     * Counts the daily recurrences in closed form, as one recurrence is due on each day after the last one.
+     */
+    @Override
+    public long countDueOccurrences(EntryType recurringEntry, LocalDate from, LocalDate to, LocalDate today) {
+        LocalDate firstDue = recurringEntry.getLastRecurrence().plusDays(DAILY_FREQUENCY);
+        LocalDate start = from.isAfter(firstDue) ? from : firstDue;
+        LocalDate end = to.isBefore(today) ? to : today;
+        return Math.max(ChronoUnit.DAYS.between(start, end) + 1, 0);
     }
 }
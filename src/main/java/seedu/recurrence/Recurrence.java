@@ -2,15 +2,14 @@ package seedu.recurrence;
 
 import seedu.classes.Parser;
 import seedu.classes.Ui;
-import seedu.type.Income;
-import seedu.type.IncomeList;
-import seedu.type.Spending;
-import seedu.type.SpendingList;
+import seedu.classes.WiagiClock;
+import seedu.type.EntryList;
 import seedu.type.EntryType;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Abstract class for {@code DailyRecurrence}, {@code MonthlyRecurrence} and {@code YearlyRecurrence}. Used to manage
@@ -23,18 +22,16 @@ public abstract class Recurrence {
      *
      * @param toAdd Entry to add into either {@code IncomeList} or {@code SpendingList}
      */
-    public static <T extends EntryType> void checkRecurrenceBackLog(T toAdd, ArrayList<T> list) {
+    public static <T extends EntryType> void checkRecurrenceBackLog(T toAdd, EntryList<T> list) {
         if (!isAbleToBacklog(toAdd)) {
             return;
         }
-        Recurrence recurrence = Parser.parseRecurrence(toAdd);
-        assert recurrence != null : "previously checked that recurrence frequency is not NONE";
+        assert Parser.parseRecurrence(toAdd) != null : "previously checked that recurrence frequency is not NONE";
         boolean hasRecurrenceBacklog = Ui.hasRecurrenceBacklog(toAdd);
-        if (toAdd instanceof Spending) {
-            recurrence.checkSpendingRecurrence((Spending)toAdd, (SpendingList)list, hasRecurrenceBacklog);
-        } else {
-            recurrence.checkIncomeRecurrence((Income)toAdd, (IncomeList)list, hasRecurrenceBacklog);
+        if (hasRecurrenceBacklog && list.isRecurrenceVirtual()) {
+            return;
         }
+        RecurrenceBackfill.backfill(list, List.of(toAdd), WiagiClock.getToday(), hasRecurrenceBacklog);
     }
 
     /**
@@ -49,49 +46,68 @@ public abstract class Recurrence {
     }
 
     /**
-     * Checks if date of recurrence entry is legitimate due to varying total days in months, causing actual date of
-     * recurrence to be overwritten
+     * Returns the date of the recurrence that is checked on the given date, moved to the day of recurrence of
+     * the entry, or to the last day of the month if the month is too short.
      *
-     * @param newEntry New entry that is added to `SpendingList` or `IncomeList` from recurrence
-     * @param checkDate Date to be checked if it is correct
-     * @param list {@code SpendingList} or {@code IncomeList} to add entry to
-     * @param isAdding Set to true to allow adding of backlog entries, otherwise to only update {@code lastRecurred}
-     *      attribute of entry
+     * @param recurringEntry Recurring entry in {@code SpendingList} or {@code IncomeList}
+     * @param checkDate Date on which the recurrence is checked
+     * @return Date of the recurrence
      */
-    protected <T extends EntryType> void checkIfDateAltered(T newEntry, LocalDate checkDate,
-                ArrayList<T> list, boolean isAdding) {
-        int dayOfSupposedRecurrence = newEntry.getDayOfRecurrence();
-        int lastDayOfNewEntryMonth = getLastDayOfMonth(checkDate);
-        int actualDayToRecur = Math.min(dayOfSupposedRecurrence, lastDayOfNewEntryMonth);
-        newEntry.editDateWithLocalDate(checkDate.withDayOfMonth(actualDayToRecur));
-        if (!newEntry.getDate().isAfter(LocalDate.now()) && isAdding) {
-            list.add(newEntry);
-        }
+    public LocalDate getOccurrenceDate(EntryType recurringEntry, LocalDate checkDate) {
+        int actualDayToRecur = Math.min(recurringEntry.getDayOfRecurrence(), getLastDayOfMonth(checkDate));
+        return checkDate.withDayOfMonth(actualDayToRecur);
     }
 
     /**
-     * Checks the {@code Income} entry if there is a need to add a recurring {@code Income} entry to the user's
-     * {@code IncomeList}
+     * Returns the date on which the recurrence after the one checked on the given date is checked.
+     *
+     * @param checkDate Date on which a recurrence is checked
+     * @return Date on which the next recurrence is checked
+     */
+    public abstract LocalDate getNextCheckDate(LocalDate checkDate);
+
+    /**
+     * Returns the dates on which the recurrences of an entry since its last recurrence are checked, up to and
+     * including the given date, without creating the recurring entries.
      *
-     * @param recurringIncome {@code Income} entry to be checked
-     * @param incomes {@code IncomeList} of the user
-     * @param isAdding Set to true to allow adding of backlog entries, otherwise to only update {@code lastRecurred}
-     *      attribute of entry
+     * @param recurringEntry Recurring entry in {@code SpendingList} or {@code IncomeList}
+     * @param until Latest date to check
+     * @return Dates on which the recurrences are checked, in order
      */
-    public abstract void checkIncomeRecurrence(Income recurringIncome, IncomeList incomes, boolean isAdding);
+    public ArrayList<LocalDate> getDueCheckDates(EntryType recurringEntry, LocalDate until) {
+        ArrayList<LocalDate> checkDates = new ArrayList<>();
+        LocalDate checkDate = getNextCheckDate(recurringEntry.getLastRecurrence());
+        while (!checkDate.isAfter(until)) {
+            checkDates.add(checkDate);
+            checkDate = getNextCheckDate(checkDate);
+        }
+        return checkDates;
+    }
 
     /**
-     * Checks the {@code Spending} entry if there is a need to add a recurring{@code spending} entry to the user's
-     * {@code SpendingList}
+     * Counts the recurrences of an entry since its last recurrence that are due by {@code today} and dated from
+     * {@code from} to {@code to} inclusive, without creating the recurring entries.
      *
-     * @param recurringSpending {@code Spending} entry to be checked
-     * @param spendings {@code SpendingList} of the user
-     * @param isAdding Set to true to allow adding of backlog entries, otherwise to only update {@code lastRecurred}
-     *      attribute of entry
+     * @param recurringEntry Recurring entry in {@code SpendingList} or {@code IncomeList}
+     * @param from Earliest recurrence date to count
+     * @param to Latest recurrence date to count
+     * @param today Current date
+     * @return Number of such recurrences
      */
-    public abstract void checkSpendingRecurrence(Spending recurringSpending, SpendingList spendings, boolean isAdding);
+    public long countDueOccurrences(EntryType recurringEntry, LocalDate from, LocalDate to, LocalDate today) {
+        LocalDate until = to.isBefore(today) ? to : today;
+        long count = 0;
+        for (LocalDate checkDate : getDueCheckDates(recurringEntry, today)) {
+            LocalDate occurrenceDate = getOccurrenceDate(recurringEntry, checkDate);
+            if (!occurrenceDate.isBefore(from) && !occurrenceDate.isAfter(until)) {
+                count++;
+            }
+        }
+        return count;
+    }
 
     private static <T extends EntryType> boolean isAbleToBacklog(T toAdd) {
-        return toAdd.getRecurrenceFrequency() != RecurrenceFrequency.NONE && toAdd.getDate().isBefore(LocalDate.now());
+        return toAdd.getRecurrenceFrequency() != RecurrenceFrequency.NONE
+                && toAdd.getDate().isBefore(WiagiClock.getToday());
     }
 }
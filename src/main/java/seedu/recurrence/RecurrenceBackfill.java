@@ -0,0 +1,57 @@
+package seedu.recurrence;
+
+import seedu.classes.Parser;
+import seedu.type.EntryList;
+import seedu.type.EntryType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Adds the recurrences that are due for many recurring entries to a list in a single batch.
+ * The recurrences of all recurring entries are generated into one buffer, which is merged into the date-sorted
+ * list at once, and the last recurrence of each recurring entry is only updated afterwards.
+ */
+public class RecurrenceBackfill {
+    /**
+     * Adds the recurrences of the given recurring entries that are due by today, and moves the last recurrence
+     * of each recurring entry up to its latest due recurrence.
+     *
+     * @param list {@code IncomeList} or {@code SpendingList} holding the recurring entries
+     * @param recurringEntries Recurring entries to check
+     * @param today Current date
+     * @param isAdding Set to true to allow adding of backlog entries, otherwise to only update {@code lastRecurred}
+     *      attribute of entries
+     */
+    public static <T extends EntryType> void backfill(EntryList<T> list, Collection<T> recurringEntries,
+            LocalDate today, boolean isAdding) {
+        ArrayList<T> backlog = new ArrayList<>();
+        ArrayList<T> recurredEntries = new ArrayList<>();
+        ArrayList<LocalDate> lastRecurrences = new ArrayList<>();
+        for (T recurringEntry : recurringEntries) {
+            Recurrence recurrence = Parser.parseRecurrence(recurringEntry);
+            assert recurrence != null : "should only be checking entries with recurrence";
+            ArrayList<LocalDate> checkDates = recurrence.getDueCheckDates(recurringEntry, today);
+            if (checkDates.isEmpty()) {
+                continue;
+            }
+            for (LocalDate checkDate : checkDates) {
+                LocalDate occurrenceDate = recurrence.getOccurrenceDate(recurringEntry, checkDate);
+                if (isAdding && !occurrenceDate.isAfter(today)) {
+                    backlog.add(list.createOccurrence(recurringEntry, occurrenceDate));
+                }
+            }
+            LocalDate lastRecurrence = checkDates.get(checkDates.size() - 1);
+            assert recurrence.getNextCheckDate(lastRecurrence).isAfter(today) : "next recurrence should not be due";
+            recurredEntries.add(recurringEntry);
+            lastRecurrences.add(lastRecurrence);
+        }
+
+        list.addAll(backlog);
+        for (int i = 0; i < recurredEntries.size(); i++) {
+            LocalDate lastRecurrence = lastRecurrences.get(i);
+            list.editEntry(recurredEntries.get(i), entry -> entry.editLastRecurrence(lastRecurrence));
+        }
+    }
+}
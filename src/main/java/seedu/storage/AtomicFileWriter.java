@@ -0,0 +1,86 @@
+package seedu.storage;
+
+import seedu.type.EntryType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a storage file so that it is never left half-written. The contents are written through a buffer to a
+ * temporary file next to the storage file, forced to disk once, and the temporary file is then renamed over the
+ * storage file. If anything fails, the storage file keeps its previous contents.
+ */
+class AtomicFileWriter {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * Replaces the file with the given first lines, if any, followed by one line per entry.
+     *
+     * @param target The file to replace.
+     * @param firstLine The lines to write before the entries, without a final line separator, or null if there
+     *     are none.
+     * @param entries The entries to write, in order.
+     * @throws IOException If the file cannot be written, in which case it is left unchanged.
+     */
+    static void write(Path target, String firstLine, Iterable<? extends EntryType> entries) throws IOException {
+        replace(target, channel -> {
+            Writer writer = new BufferedWriter(Channels.newWriter(channel, Charset.defaultCharset()), BUFFER_SIZE);
+            if (firstLine != null) {
+                writer.write(firstLine);
+                writer.write(System.lineSeparator());
+            }
+            for (EntryType entry : entries) {
+                writer.write(EntryFormatter.toStorageString(entry));
+                writer.write(System.lineSeparator());
+            }
+            writer.flush();
+        });
+    }
+
+    /**
+     * Replaces the file with the bytes written by the given contents.
+     *
+     * @param target The file to replace.
+     * @param contents Writes the new contents of the file to the channel, flushing any buffer it uses.
+     * @throws IOException If the file cannot be written, in which case it is left unchanged.
+     */
+    static void replace(Path target, Contents contents) throws IOException {
+        Path temporaryFile = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                contents.writeTo(channel);
+                channel.force(false);
+            }
+            moveOver(temporaryFile, target);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static void moveOver(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    interface Contents {
+        void writeTo(FileChannel channel) throws IOException;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.storage;
+
+import seedu.classes.WiagiLogger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Writes the changes queued with {@link Storage#queueChanges} to the journals on a background thread at a fixed
+ * interval, so that a crash loses at most one interval of changes and the command loop never waits for the disk.
+ */
+public class Autosave {
+    private static final long STOP_TIMEOUT_SECONDS = 5;
+
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Starts writing the queued changes of the storage every interval.
+     *
+     * @param storage The storage whose queued changes are written.
+     * @param intervalSeconds The interval between writes, in seconds, which must be positive.
+     */
+    public Autosave(Storage storage, long intervalSeconds) {
+        assert intervalSeconds > 0 : "Autosave interval should be positive";
+        executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "wiagi-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(storage::writeQueuedChanges, intervalSeconds, intervalSeconds,
+                TimeUnit.SECONDS);
+        WiagiLogger.logger.log(Level.INFO, "Autosaving every " + intervalSeconds + " seconds");
+    }
+
+    /**
+     * Stops autosaving, waiting for a write in progress to finish. Changes still queued are written by the next
+     * {@link Storage#save}.
+     */
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                WiagiLogger.logger.log(Level.WARNING, "Autosave did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package seedu.storage;
+
+import seedu.classes.WiagiLogger;
+import seedu.exception.WiagiStorageCorruptedException;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.EntryType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes incomes and spendings in a compact binary format.
+ * <p>
+ * A file starts with a header holding the format version, the kind of entries, the budgets and the number of
+ * entries. A table of the distinct descriptions and tags follows, and then the entries in blocks of up to
+ * {@value #BLOCK_RECORDS}. Each entry is a record of {@value #RECORD_SIZE} bytes holding the amount in cents, the
+ * date and last recurrence as epoch days, the recurrence frequency, the day of recurrence and the indexes of its
+ * description and tag in the table. The header, the table and each block end with a CRC-32 checksum, so a damaged
+ * block only loses the entries in it.
+ */
+class BinaryLedgerFile {
+    static final int MAGIC = 0x57494147;
+    static final short VERSION = 1;
+    static final byte INCOMES = 'I';
+    static final byte SPENDINGS = 'S';
+    /** The size of the header before its checksum. */
+    static final int HEADER_SIZE = 44;
+    static final int RECORD_SIZE = 26;
+    static final int BLOCK_RECORDS = 4096;
+    static final int NO_DATE = Integer.MIN_VALUE;
+    static final int NO_STRING = -1;
+    static final byte NO_RECURRENCE = -1;
+    /** The length in bytes of the longest description or tag that can be stored, encoded in UTF-8. */
+    static final int MAX_STRING_BYTES = 1 << 16;
+    private static final int MAX_BLOCK_RECORDS = 1 << 16;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final RecurrenceFrequency[] RECURRENCE_FREQUENCIES = RecurrenceFrequency.values();
+
+    /**
+     * Replaces the file with the given budgets and entries in the binary format.
+     *
+     * @param target The file to replace.
+     * @param kind {@link #INCOMES} or {@link #SPENDINGS}.
+     * @param budgetsInCents The daily, monthly and yearly budgets in cents, or null if there are none.
+     * @param entries The entries to write, in order.
+     * @throws IOException If the file cannot be written or {@link #canWrite} rejects an entry. The file is then
+     *     left unchanged.
+     */
+    static void write(Path target, byte kind, long[] budgetsInCents, Collection<? extends EntryType> entries)
+            throws IOException {
+        HashMap<String, Integer> stringIndexes = new HashMap<>();
+        ByteArrayOutputStream stringTable = new ByteArrayOutputStream();
+        DataOutputStream stringTableOut = new DataOutputStream(stringTable);
+        for (EntryType entry : entries) {
+            addString(entry.getDescription(), stringIndexes, stringTableOut);
+            addString(entry.getTag(), stringIndexes, stringTableOut);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).put(kind).put((byte) 0);
+        for (int i = 0; i < 3; i++) {
+            header.putLong(budgetsInCents == null ? 0 : budgetsInCents[i]);
+        }
+        header.putInt(entries.size()).putInt(stringIndexes.size()).putInt(BLOCK_RECORDS);
+
+        AtomicFileWriter.replace(target, channel -> {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel),
+                    BUFFER_SIZE));
+            writeChecked(out, header.array(), HEADER_SIZE);
+            writeChecked(out, stringTable.toByteArray(), stringTable.size());
+            ByteBuffer block = ByteBuffer.allocate(BLOCK_RECORDS * RECORD_SIZE);
+            for (EntryType entry : entries) {
+                putRecord(block, entry, stringIndexes);
+                if (!block.hasRemaining()) {
+                    writeChecked(out, block.array(), block.position());
+                    block.clear();
+                }
+            }
+            if (block.position() > 0) {
+                writeChecked(out, block.array(), block.position());
+            }
+            out.flush();
+        });
+    }
+
+    private static void addString(String string, HashMap<String, Integer> stringIndexes,
+            DataOutputStream stringTableOut) throws IOException {
+        if (string == null || stringIndexes.containsKey(string)) {
+            return;
+        }
+        stringIndexes.put(string, stringIndexes.size());
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IOException("A description or tag of " + bytes.length + " bytes is longer than the "
+                    + MAX_STRING_BYTES + " bytes a binary ledger file can hold");
+        }
+        stringTableOut.writeInt(bytes.length);
+        stringTableOut.write(bytes);
+    }
+
+    /**
+     * Returns true if the description and tag of the entry are short enough to be stored in the binary format.
+     *
+     * @param entry The entry to check.
+     * @return True if the entry can be written.
+     */
+    static boolean canWrite(EntryType entry) {
+        return fits(entry.getDescription()) && fits(entry.getTag());
+    }
+
+    private static boolean fits(String string) {
+        return string == null || string.length() <= MAX_STRING_BYTES / 3
+                || string.getBytes(StandardCharsets.UTF_8).length <= MAX_STRING_BYTES;
+    }
+
+    private static void writeChecked(DataOutputStream out, byte[] bytes, int length) throws IOException {
+        out.write(bytes, 0, length);
+        out.writeInt(checksum(bytes, 0, length));
+    }
+
+    private static void putRecord(ByteBuffer block, EntryType entry, HashMap<String, Integer> stringIndexes) {
+        RecurrenceFrequency recurrenceFrequency = entry.getRecurrenceFrequency();
+        LocalDate lastRecurrence = entry.getLastRecurrence();
+        block.putLong(entry.getAmountInCents());
+        block.putInt((int) entry.getDate().toEpochDay());
+        block.put(recurrenceFrequency == null ? NO_RECURRENCE : (byte) recurrenceFrequency.ordinal());
+        block.putInt(lastRecurrence == null ? NO_DATE : (int) lastRecurrence.toEpochDay());
+        block.put((byte) entry.getDayOfRecurrence());
+        block.putInt(entry.getDescription() == null ? NO_STRING : stringIndexes.get(entry.getDescription()));
+        block.putInt(entry.getTag() == null ? NO_STRING : stringIndexes.get(entry.getTag()));
+    }
+
+    /**
+     * Reads the budgets and entries of a file in the binary format. Entries in a block whose checksum does not
+     * match, and entries that are not valid, are reported as corrupted lines numbered by their position in the
+     * file, starting from 1.
+     * <p>
+     * The file is mapped into memory and the records are decoded straight from the mapping. A file too large to
+     * map in one buffer, or one that cannot be mapped, is read as a stream instead.
+     *
+     * @param file The file to read.
+     * @param kind {@link #INCOMES} or {@link #SPENDINGS}.
+     * @param factory Creates the entries.
+     * @return The entries in file order, with the budgets as the first line for spendings.
+     * @throws IOException If the file cannot be read, or its header or string table is damaged.
+     */
+    static <T extends EntryType> ParsedStorageFile<T> read(Path file, byte kind, EntryFactory<T> factory)
+            throws IOException {
+        ByteBuffer mapping = map(file);
+        if (mapping == null) {
+            return readStream(file, kind, factory);
+        }
+        try {
+            Header header = Header.read(mapping, file, kind);
+            String[] strings = readStrings(mapping, header.stringCount, file);
+            RecordDecoder<T> decoder = new RecordDecoder<>(kind, strings, factory);
+            ArrayList<T> entries = new ArrayList<>(header.recordCount);
+            ArrayList<ParsedStorageFile.CorruptedLine> corruptedLines = new ArrayList<>();
+            for (int first = 0; first < header.recordCount; first += header.blockRecords) {
+                int count = Math.min(header.blockRecords, header.recordCount - first);
+                int length = count * RECORD_SIZE;
+                if (mapping.remaining() < length + Integer.BYTES) {
+                    corruptedLines.add(decoder.corruptedBlock(first, header.recordCount - first, "end of file"));
+                    break;
+                }
+                ByteBuffer records = take(mapping, length);
+                if (mapping.getInt() != checksum(records)) {
+                    corruptedLines.add(decoder.corruptedBlock(first, count, "checksum"));
+                    continue;
+                }
+                decodeBlock(records, first, count, decoder, entries, corruptedLines);
+            }
+            return new ParsedStorageFile<>(toBudgetDetails(header, kind), entries, corruptedLines);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Unexpected end of " + file);
+        }
+    }
+
+    /**
+     * Maps the whole file into memory.
+     *
+     * @return The mapping, or null if the file is too large to map in one buffer or cannot be mapped.
+     */
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                WiagiLogger.logger.log(Level.INFO, file + " is too large to map, reading it as a stream");
+                return null;
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException | UnsupportedOperationException e) {
+            if (Files.notExists(file)) {
+                throw e;
+            }
+            WiagiLogger.logger.log(Level.WARNING, "Unable to map " + file + ", reading it as a stream", e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the file as a stream, as {@link #read} does for a file that is not mapped.
+     */
+    static <T extends EntryType> ParsedStorageFile<T> readStream(Path file, byte kind, EntryFactory<T> factory)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file),
+                BUFFER_SIZE))) {
+            Header header = Header.read(in, file, kind);
+            String[] strings = readStrings(in, header.stringCount, file);
+            RecordDecoder<T> decoder = new RecordDecoder<>(kind, strings, factory);
+            ArrayList<T> entries = new ArrayList<>(header.recordCount);
+            ArrayList<ParsedStorageFile.CorruptedLine> corruptedLines = new ArrayList<>();
+            byte[] block = new byte[header.blockRecords * RECORD_SIZE];
+            for (int first = 0; first < header.recordCount; first += header.blockRecords) {
+                int count = Math.min(header.blockRecords, header.recordCount - first);
+                int length = count * RECORD_SIZE;
+                try {
+                    in.readFully(block, 0, length);
+                    if (in.readInt() != checksum(block, 0, length)) {
+                        corruptedLines.add(decoder.corruptedBlock(first, count, "checksum"));
+                        continue;
+                    }
+                } catch (EOFException e) {
+                    corruptedLines.add(decoder.corruptedBlock(first, header.recordCount - first, "end of file"));
+                    break;
+                }
+                decodeBlock(ByteBuffer.wrap(block, 0, length), first, count, decoder, entries, corruptedLines);
+            }
+            return new ParsedStorageFile<>(toBudgetDetails(header, kind), entries, corruptedLines);
+        }
+    }
+
+    private static <T extends EntryType> void decodeBlock(ByteBuffer records, int first, int count,
+            RecordDecoder<T> decoder, ArrayList<T> entries,
+            ArrayList<ParsedStorageFile.CorruptedLine> corruptedLines) {
+        for (int i = 0; i < count; i++) {
+            try {
+                entries.add(decoder.decode(records));
+            } catch (WiagiStorageCorruptedException e) {
+                corruptedLines.add(new ParsedStorageFile.CorruptedLine(first + i + 1, e));
+            }
+        }
+    }
+
+    private static String toBudgetDetails(Header header, byte kind) {
+        return (kind == SPENDINGS) ? EntryFormatter.toBudgetString(header.budgetsInCents[0],
+                header.budgetsInCents[1], header.budgetsInCents[2]) : null;
+    }
+
+    private static String[] readStrings(DataInputStream in, int stringCount, Path file) throws IOException {
+        String[] strings = new String[stringCount];
+        CRC32 crc = new CRC32();
+        byte[] lengthBytes = new byte[Integer.BYTES];
+        for (int i = 0; i < stringCount; i++) {
+            in.readFully(lengthBytes);
+            int length = ByteBuffer.wrap(lengthBytes).getInt();
+            if (length < 0 || length > MAX_STRING_BYTES) {
+                throw new IOException("Damaged string table in " + file);
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            crc.update(lengthBytes);
+            crc.update(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (in.readInt() != (int) crc.getValue()) {
+            throw new IOException("Damaged string table in " + file);
+        }
+        return strings;
+    }
+
+    private static String[] readStrings(ByteBuffer bytes, int stringCount, Path file) throws IOException {
+        String[] strings = new String[stringCount];
+        int start = bytes.position();
+        for (int i = 0; i < stringCount; i++) {
+            int length = bytes.getInt();
+            if (length < 0 || length > MAX_STRING_BYTES) {
+                throw new IOException("Damaged string table in " + file);
+            }
+            byte[] stringBytes = new byte[length];
+            bytes.get(stringBytes);
+            strings[i] = new String(stringBytes, StandardCharsets.UTF_8);
+        }
+        ByteBuffer table = bytes.duplicate();
+        table.limit(bytes.position()).position(start);
+        if (bytes.getInt() != checksum(table)) {
+            throw new IOException("Damaged string table in " + file);
+        }
+        return strings;
+    }
+
+    /**
+     * Returns a buffer over the next bytes of the given buffer, and moves the given buffer past them.
+     *
+     * @throws BufferUnderflowException If fewer bytes remain.
+     */
+    private static ByteBuffer take(ByteBuffer bytes, int length) {
+        if (bytes.remaining() < length) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer taken = bytes.duplicate();
+        taken.limit(bytes.position() + length);
+        bytes.position(bytes.position() + length);
+        return taken;
+    }
+
+    /**
+     * Returns the checksum of the remaining bytes of the buffer, without moving it.
+     */
+    private static int checksum(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes.duplicate());
+        return (int) crc.getValue();
+    }
+
+    static int checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * The header of a file in the binary format.
+     */
+    static class Header {
+        final long[] budgetsInCents = new long[3];
+        int recordCount;
+        int stringCount;
+        int blockRecords;
+
+        /**
+         * Reads and checks the header, including its checksum.
+         *
+         * @throws IOException If the header is damaged, is of another version, or holds another kind of entries.
+         */
+        static Header read(DataInputStream in, Path file, byte kind) throws IOException {
+            byte[] bytes = new byte[HEADER_SIZE];
+            in.readFully(bytes);
+            if (in.readInt() != checksum(bytes, 0, HEADER_SIZE)) {
+                throw new IOException("Damaged header in " + file);
+            }
+            return parse(ByteBuffer.wrap(bytes), file, kind);
+        }
+
+        /**
+         * Reads and checks the header, including its checksum, from the buffer, which is moved past it.
+         *
+         * @throws IOException If the header is damaged, is of another version, or holds another kind of entries.
+         * @throws BufferUnderflowException If the buffer ends before the header does.
+         */
+        static Header read(ByteBuffer bytes, Path file, byte kind) throws IOException {
+            ByteBuffer headerBytes = take(bytes, HEADER_SIZE);
+            if (bytes.getInt() != checksum(headerBytes)) {
+                throw new IOException("Damaged header in " + file);
+            }
+            return parse(headerBytes, file, kind);
+        }
+
+        /**
+         * Parses a header whose checksum has been checked.
+         *
+         * @throws IOException If the header is of another version, or holds another kind of entries.
+         */
+        static Header parse(ByteBuffer bytes, Path file, byte kind) throws IOException {
+            if (bytes.getInt() != MAGIC) {
+                throw new IOException(file + " is not a binary ledger file");
+            }
+            short version = bytes.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary ledger version " + version + " in " + file);
+            }
+            if (bytes.get() != kind) {
+                throw new IOException(file + " does not hold " + (kind == SPENDINGS ? "spendings" : "incomes"));
+            }
+            bytes.get();
+            Header header = new Header();
+            for (int i = 0; i < 3; i++) {
+                header.budgetsInCents[i] = bytes.getLong();
+            }
+            header.recordCount = bytes.getInt();
+            header.stringCount = bytes.getInt();
+            header.blockRecords = bytes.getInt();
+            if (header.recordCount < 0 || header.stringCount < 0 || header.blockRecords < 1
+                    || header.blockRecords > MAX_BLOCK_RECORDS) {
+                throw new IOException("Damaged header in " + file);
+            }
+            return header;
+        }
+    }
+
+    /**
+     * Turns records into entries, checking each field as {@link LoadStorageCheck} does for the text format.
+     */
+    static class RecordDecoder<T extends EntryType> {
+        private final LoadStorageCheck check;
+        private final String[] strings;
+        private final EntryFactory<T> factory;
+
+        RecordDecoder(byte kind, String[] strings, EntryFactory<T> factory) {
+            this.check = new LoadStorageCheck(kind == SPENDINGS ? "spending" : "income");
+            this.strings = strings;
+            this.factory = factory;
+        }
+
+        /**
+         * Reads the next record from the buffer, which is moved past the record even if it is not valid.
+         *
+         * @throws WiagiStorageCorruptedException If the record is not valid.
+         */
+        T decode(ByteBuffer records) {
+            long amountInCents = records.getLong();
+            int date = records.getInt();
+            byte recurrence = records.get();
+            int lastRecurrence = records.getInt();
+            int dayOfRecurrence = records.get();
+            int description = records.getInt();
+            int tag = records.getInt();
+
+            if (amountInCents <= 0) {
+                throw corrupted("amount");
+            }
+            if (description < 0 || description >= strings.length || strings[description].isEmpty()) {
+                throw corrupted("description!");
+            }
+            if (tag < NO_STRING || tag >= strings.length) {
+                throw corrupted("tag!");
+            }
+            if (recurrence < 0 || recurrence >= RECURRENCE_FREQUENCIES.length) {
+                throw corrupted(LoadStorageCheck.STORAGE_RECURRENCE_FREQUENCY);
+            }
+            RecurrenceFrequency recurrenceFrequency = RECURRENCE_FREQUENCIES[recurrence];
+            if (recurrenceFrequency != RecurrenceFrequency.NONE && lastRecurrence == NO_DATE) {
+                throw corrupted(LoadStorageCheck.STORAGE_LAST_RECURRED_DATE);
+            }
+            if (dayOfRecurrence < 1 || dayOfRecurrence > 31) {
+                throw corrupted(LoadStorageCheck.STORAGE_VALID_DAY_RECURRENCE);
+            }
+            LocalDate lastRecurred = (lastRecurrence == NO_DATE) ? null
+                    : toDate(lastRecurrence, LoadStorageCheck.STORAGE_LAST_RECURRED_DATE);
+            return factory.create(amountInCents / 100.0, strings[description], toDate(date, "date!"),
+                    tag == NO_STRING ? null : strings[tag], recurrenceFrequency, lastRecurred, dayOfRecurrence);
+        }
+
+        ParsedStorageFile.CorruptedLine corruptedBlock(int first, int count, String problem) {
+            return new ParsedStorageFile.CorruptedLine(first + 1,
+                    corrupted(problem + " of the block of " + count + " entries!"));
+        }
+
+        private LocalDate toDate(int epochDay, String field) {
+            try {
+                return LocalDate.ofEpochDay(epochDay);
+            } catch (DateTimeException e) {
+                throw corrupted(field);
+            }
+        }
+
+        private WiagiStorageCorruptedException corrupted(String field) {
+            return new WiagiStorageCorruptedException(check.storageErrorMessage + field);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.storage;
+
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.EntryType;
+
+import java.time.LocalDate;
+
+/**
+ * Creates an entry from its fields, e.g. a constructor of {@code Spending} or {@code Income}.
+ *
+ * @param <T> The type of entry created.
+ */
+@FunctionalInterface
+interface EntryFactory<T extends EntryType> {
+    T create(double amount, String description, LocalDate date, String tag,
+            RecurrenceFrequency recurrenceFrequency, LocalDate lastRecurrence, int dayOfRecurrence);
+}
@@ -0,0 +1,29 @@
+package seedu.storage;
+
+import seedu.classes.Money;
+import seedu.type.EntryType;
+import seedu.type.SpendingList;
+
+import static seedu.classes.Constants.STORAGE_SEPARATOR;
+
+/**
+ * Formats entries and budgets into the lines used by the storage files.
+ */
+class EntryFormatter {
+    static String toStorageString(EntryType entry) {
+        return Money.format(entry.getAmountInCents()) + STORAGE_SEPARATOR + entry.getDescription() + STORAGE_SEPARATOR +
+                entry.getDate() + STORAGE_SEPARATOR + entry.getTag() + STORAGE_SEPARATOR +
+                entry.getRecurrenceFrequency() + STORAGE_SEPARATOR + entry.getLastRecurrence() +
+                STORAGE_SEPARATOR + entry.getDayOfRecurrence();
+    }
+
+    static String toBudgetString(SpendingList spendings) {
+        return toBudgetString(spendings.getDailyBudgetInCents(), spendings.getMonthlyBudgetInCents(),
+                spendings.getYearlyBudgetInCents());
+    }
+
+    static String toBudgetString(long dailyBudgetInCents, long monthlyBudgetInCents, long yearlyBudgetInCents) {
+        return Money.format(dailyBudgetInCents) + STORAGE_SEPARATOR + Money.format(monthlyBudgetInCents)
+                + STORAGE_SEPARATOR + Money.format(yearlyBudgetInCents);
+    }
+}
@@ -7,14 +7,18 @@ import seedu.classes.Ui;
 import seedu.exception.WiagiStorageCorruptedException;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Scanner;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 import static seedu.classes.Constants.SAVE_INCOME_FILE_ERROR;
 import static seedu.classes.Constants.LOAD_INCOME_FILE_ERROR;
-import static seedu.classes.Constants.STORAGE_SEPARATOR;
 
 /**
  * Manages saving and loading of income data to and from a file.
@@ -22,17 +26,34 @@ import static seedu.classes.Constants.STORAGE_SEPARATOR;
 public class IncomeListStorage {
     static final String INCOMES_FILE_PATH = "./incomes.txt";
 
+    static final String INCOMES_JOURNAL_PATH = "./incomes.journal";
+    static final String INCOMES_MANIFEST_PATH = "./incomes.manifest";
+    /** The path of the segment of the past year and generation given. */
+    static final String INCOMES_SEGMENT_PATH_FORMAT = "./incomes-%d-%d.bin";
+
     static LoadStorageCheck storageUtils = new LoadStorageCheck("income");
+    static ListJournal<Income> journal = new ListJournal<>(INCOMES_JOURNAL_PATH);
+    static YearPartitions<Income> partitions = new YearPartitions<>(INCOMES_MANIFEST_PATH,
+            INCOMES_SEGMENT_PATH_FORMAT, BinaryLedgerFile.INCOMES, Income::new, journal, LOAD_INCOME_FILE_ERROR);
+    /** The version stamp of the income list when it was last loaded or saved. */
+    private static long savedVersion;
+
     /**
      * Saves the income list, including each income entry, to a file.
+     * Incomes of past years that changed are written to their yearly segments instead.
+     * As the files then hold every change, the journal is discarded. The file records the next generation of the
+     * journal, so that the old journal is not replayed onto it if the application stops before it is discarded.
      *
      * @param incomes the list of incomes to be saved
      */
     static void save(IncomeList incomes) {
         assert incomes != null : "IncomeList should not be null";
         WiagiLogger.logger.log(Level.INFO, "Starting to save incomes...");
+        long version = incomes.getVersion();
         try {
             handleWriteFile(incomes);
+            journal.clear();
+            savedVersion = version;
             WiagiLogger.logger.log(Level.INFO, "Successfully saved incomes file");
         } catch (IOException e) {
             WiagiLogger.logger.log(Level.WARNING, "Unable to save incomes file", e);
@@ -42,34 +63,98 @@ public class IncomeListStorage {
         WiagiLogger.logger.log(Level.INFO, "Finish saving incomes file");
     }
 
-    private static void handleWriteFile(IncomeList incomes) throws IOException {
-        FileWriter fw = new FileWriter(INCOMES_FILE_PATH);
-        for (Income income : incomes) {
-            String incomeEntry = income.getAmount() + STORAGE_SEPARATOR + income.getDescription() +
-                    STORAGE_SEPARATOR + income.getDate() + STORAGE_SEPARATOR + income.getTag() + STORAGE_SEPARATOR +
-                    income.getRecurrenceFrequency() + STORAGE_SEPARATOR + income.getLastRecurrence() +
-                    STORAGE_SEPARATOR + income.getDayOfRecurrence();
-            fw.write(incomeEntry + System.lineSeparator());
+    /**
+     * Saves the changes made to the income list by appending them to the journal.
+     * The whole list is only rewritten when there is no incomes file yet, when the journal has grown
+     * past its compaction threshold, or when incomes of past years are waiting to be moved to their segments.
+     * Nothing is written if the list has not changed since it was last loaded or saved.
+     *
+     * @param incomes the list of incomes to be saved, which must be observed by the journal
+     */
+    static void saveChanges(IncomeList incomes) {
+        boolean hasFile = new File(INCOMES_FILE_PATH).exists();
+        boolean isSaveDue = partitions.isSaveDue();
+        if (incomes.getVersion() == savedVersion && hasFile && !journal.hasQueuedRecords() && !isSaveDue) {
+            WiagiLogger.logger.log(Level.INFO, "Incomes unchanged since last save, skipping save");
+            return;
+        }
+        if (journal.isCompactionDue() || !hasFile || isSaveDue) {
+            WiagiLogger.logger.log(Level.INFO, "Compacting incomes journal");
+            save(incomes);
+            return;
+        }
+        queueChanges(incomes);
+        try {
+            journal.writeQueuedRecords();
+            WiagiLogger.logger.log(Level.INFO, "Successfully appended to incomes journal");
+        } catch (IOException e) {
+            WiagiLogger.logger.log(Level.WARNING, "Unable to append to incomes journal", e);
+            Ui.printWithTab(SAVE_INCOME_FILE_ERROR);
         }
-        fw.close();
     }
 
     /**
-     * Loads the income data from a file into the application's income list.
-     * If no file exists, a new one is created.
+     * Queues the changes made to the income list since they were last queued or saved, to be appended to the
+     * journal by {@link #writeQueuedChanges()}. This only copies the journal records, without any file access.
+     *
+     * @param incomes the list of incomes to be saved, which must be observed by the journal
+     */
+    static void queueChanges(IncomeList incomes) {
+        long version = incomes.getVersion();
+        if (version == savedVersion) {
+            return;
+        }
+        journal.queuePendingRecords();
+        savedVersion = version;
+    }
+
+    /**
+     * Appends the queued changes to the journal.
+     *
+     * @throws IOException If the journal cannot be written. The changes stay queued.
+     */
+    static void writeQueuedChanges() throws IOException {
+        journal.writeQueuedRecords();
+    }
+
+    private static void handleWriteFile(IncomeList incomes) throws IOException {
+        String generationLine = ListJournal.toGenerationRecord(journal.startNextGeneration());
+        AtomicFileWriter.write(Paths.get(INCOMES_FILE_PATH), generationLine, partitions.saveSegments(incomes));
+        partitions.finishSave();
+    }
+
+    /**
+     * Loads the income data from a file into the application's income list, reading and parsing the file on
+     * the calling thread.
      */
     static void load() {
+        FutureTask<ParsedStorageFile<Income>> incomeFile = new FutureTask<>(() -> readFile(null));
+        incomeFile.run();
+        load(incomeFile);
+    }
+
+    /**
+     * Loads the income data read by {@link #readFile(ForkJoinPool)} into the application's income list.
+     * Corrupted entries are reported and the journal is replayed on the calling thread.
+     * Only the incomes file is loaded, and the segments of past years are loaded when they are first needed.
+     *
+     * @param incomeFile the reading of the incomes file, which is waited for if it has not finished
+     */
+    static void load(Future<ParsedStorageFile<Income>> incomeFile) {
         WiagiLogger.logger.log(Level.INFO, "Starting to load incomes...");
-        int errorEntryNumber = 0;
         try {
-            File incomeFile = new File(INCOMES_FILE_PATH);
-            Scanner incomeReader = new Scanner(incomeFile);
-            while (incomeReader.hasNext()) {
-                String newEntry = incomeReader.nextLine();
-                errorEntryNumber++;
-                processEntry(newEntry, errorEntryNumber);
+            partitions.open(Storage.incomes);
+            ParsedStorageFile<Income> loadedIncomes = Storage.getLoaded(incomeFile);
+            journal.setGeneration(loadedIncomes.getGeneration());
+            for (ParsedStorageFile.CorruptedLine corruptedLine : loadedIncomes.getCorruptedLines()) {
+                handleCorruptedEntry(corruptedLine.error, corruptedLine.lineNumber);
+            }
+            Storage.incomes.addAll(partitions.removeSavedEntries(loadedIncomes.getEntries()));
+            replayJournal();
+            savedVersion = Storage.incomes.getVersion();
+            if (partitions.hasInterruptedSave()) {
+                save(Storage.incomes);
             }
-            incomeReader.close();
             WiagiLogger.logger.log(Level.INFO, "Successfully loaded incomes from file");
         } catch (IOException e) {
             WiagiLogger.logger.log(Level.WARNING, "Unable to open incomes file", e);
@@ -78,17 +163,81 @@ public class IncomeListStorage {
         WiagiLogger.logger.log(Level.INFO, "Finish loading incomes file.");
     }
 
-    private static void processEntry(String newEntry, long counter) {
+    /**
+     * Reads and parses the incomes file without changing the income list or printing anything, so that it can
+     * run on another thread.
+     *
+     * @param pool the pool to parse the file on in chunks, or null to parse it on the calling thread
+     * @return the parsed incomes file
+     * @throws IOException if the incomes file cannot be read
+     */
+    static ParsedStorageFile<Income> readFile(ForkJoinPool pool) throws IOException {
+        return readFile(new File(INCOMES_FILE_PATH), pool);
+    }
+
+    /**
+     * Reads and parses a file of incomes in the text format without printing anything.
+     *
+     * @param incomeFile the file to read, whose first line holds the generation, if any
+     * @param pool the pool to parse the file on in chunks, or null to parse it on the calling thread
+     * @return the parsed file
+     * @throws IOException if the file cannot be read
+     */
+    static ParsedStorageFile<Income> readFile(File incomeFile, ForkJoinPool pool) throws IOException {
+        long generation = -1;
+        ArrayList<String> lines = new ArrayList<>();
+        try (StorageReader incomeReader = new StorageReader(incomeFile)) {
+            if (incomeReader.hasNext()) {
+                String firstLine = incomeReader.nextLine();
+                generation = ListJournal.parseGeneration(firstLine);
+                if (generation < 0) {
+                    lines.add(firstLine);
+                }
+            }
+            while (incomeReader.hasNext()) {
+                lines.add(incomeReader.nextLine());
+            }
+        }
+        Function<String, Income> parser = line -> (Income) storageUtils.parseEntry(line);
+        ParsedStorageFile<Income> parsedFile = (pool == null)
+                ? ParsedStorageFile.parse(null, lines, parser)
+                : ParsedStorageFile.parseInParallel(null, lines, parser, pool);
+        parsedFile.setGeneration(Math.max(generation, 0));
+        return parsedFile;
+    }
+
+    /**
+     * Applies the changes recorded in the journal since the incomes file was last written.
+     */
+    private static void replayJournal() throws IOException {
+        for (Map.Entry<Integer, String> record : journal.readRecords().entrySet()) {
+            processRecord(record.getValue(), record.getKey());
+        }
+    }
+
+    private static void processRecord(String record, long counter) {
         try {
-            Income nextEntry = (Income) storageUtils.parseEntry(newEntry);
-            Storage.incomes.add(nextEntry);
+            Income entry = (Income) storageUtils.parseEntry(storageUtils.getRecordData(record));
+            if (partitions.isSaved(entry)) {
+                return;
+            }
+            partitions.markChanged(entry);
+            if (record.charAt(0) == ListJournal.ADD_RECORD) {
+                Storage.incomes.add(entry);
+                return;
+            }
+            partitions.loadYearOf(entry);
+            if (!ListJournal.removeMatchingEntry(Storage.incomes, entry)) {
+                WiagiLogger.logger.log(Level.WARNING, "Removed income in journal line " + counter + " not found");
+            }
         } catch (WiagiStorageCorruptedException e) {
-            handleCorruptedEntry(e, counter);
+            WiagiLogger.logger.log(Level.WARNING, "Corrupted income journal record at line " + counter, e);
+            Ui.handleCorruptedEntry(e, counter, "the incomes journal");
         }
     }
 
     private static void handleCorruptedEntry(WiagiStorageCorruptedException e, long counter) {
         WiagiLogger.logger.log(Level.WARNING, "Corrupted income entry detected at line " + counter, e);
-        Ui.handleCorruptedEntry(e, counter);
+        Ui.handleCorruptedEntry(e, counter, "the incomes file");
     }
 }
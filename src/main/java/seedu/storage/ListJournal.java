@@ -0,0 +1,259 @@
+package seedu.storage;
+
+import seedu.classes.WiagiLogger;
+import seedu.type.EntryList;
+import seedu.type.EntryListObserver;
+import seedu.type.EntryType;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import static seedu.classes.Constants.STORAGE_SEPARATOR;
+
+/**
+ * Records the changes made to an entry list since its snapshot file was last written.
+ * Saving appends one record per change instead of rewriting the snapshot, and the journal is only
+ * compacted back into the snapshot once it grows past {@link #COMPACTION_THRESHOLD} records.
+ *
+ * <p>Each snapshot starts with its generation, and each run of records in the journal starts with a generation
+ * record for the snapshot the records apply to. Writing a snapshot starts the next generation before the journal
+ * is discarded, so if the application stops in between, the records of older generations that the snapshot
+ * already holds are left out when the journal is replayed.
+ *
+ * <p>Records are added on the thread that changes the list. Queueing them for writing takes a copy of the
+ * pending records, so they can then be written to the file on another thread, such as the autosave thread,
+ * while the list keeps changing.
+ *
+ * @param <T> The type of entry stored in the journalled list.
+ */
+public class ListJournal<T extends EntryType> implements EntryListObserver<T> {
+    static final int COMPACTION_THRESHOLD = 1000;
+    static final char ADD_RECORD = '+';
+    static final char REMOVE_RECORD = '-';
+    static final char BUDGET_RECORD = 'B';
+    static final char GENERATION_RECORD = 'G';
+    static final int RECORD_DATA_INDEX = 2;
+
+    private final String filePath;
+    private final StringBuilder pendingRecords = new StringBuilder();
+    /** Records queued for writing to the file, guarded by this journal. */
+    private final StringBuilder queuedRecords = new StringBuilder();
+    /** Held while writing to or deleting the file, so that queued records are written in order. */
+    private final Object fileLock = new Object();
+    private int recordCount = 0;
+    /** The generation of the snapshot that new records apply to. */
+    private long generation = 0;
+    /** The generation of the last generation record added since the journal was discarded, or -1 if none. */
+    private long recordedGeneration = -1;
+
+    ListJournal(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public void entryAdded(T entry) {
+        addRecord(ADD_RECORD, EntryFormatter.toStorageString(entry));
+    }
+
+    @Override
+    public void entryRemoved(T entry) {
+        addRecord(REMOVE_RECORD, EntryFormatter.toStorageString(entry));
+    }
+
+    void addRecord(char recordType, String data) {
+        if (recordedGeneration != generation) {
+            pendingRecords.append(toGenerationRecord(generation)).append(System.lineSeparator());
+            recordedGeneration = generation;
+        }
+        pendingRecords.append(recordType).append(STORAGE_SEPARATOR).append(data).append(System.lineSeparator());
+        recordCount++;
+    }
+
+    /**
+     * Returns the generation of the snapshot that new records apply to.
+     */
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Sets the generation of the snapshot that was loaded, before the journal is replayed onto it.
+     *
+     * @param generation The generation read from the snapshot, or 0 if it has none.
+     */
+    void setGeneration(long generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * Starts the next generation before a snapshot of it is written. The records added from then on apply to the
+     * new snapshot, while the records added before are left out of the replay once the new snapshot is in place.
+     *
+     * @return The generation to write to the snapshot.
+     */
+    long startNextGeneration() {
+        generation++;
+        return generation;
+    }
+
+    /**
+     * Reads the records from the journal file that apply to the snapshot of the current generation, leaving out
+     * the generation records and the records of older snapshots. All records are counted towards the compaction
+     * threshold.
+     *
+     * @return The records by their line number in the file, or an empty map if there is no journal file.
+     * @throws IOException If the journal file cannot be read.
+     */
+    TreeMap<Integer, String> readRecords() throws IOException {
+        TreeMap<Integer, String> records = new TreeMap<>();
+        File journalFile = new File(filePath);
+        if (!journalFile.exists()) {
+            return records;
+        }
+        long recordGeneration = 0;
+        int lineNumber = 0;
+        int count = 0;
+        try (StorageReader journalReader = new StorageReader(journalFile)) {
+            while (journalReader.hasNext()) {
+                String record = journalReader.nextLine();
+                lineNumber++;
+                long parsedGeneration = parseGeneration(record);
+                if (parsedGeneration >= 0) {
+                    recordGeneration = parsedGeneration;
+                    continue;
+                }
+                count++;
+                if (recordGeneration >= generation) {
+                    records.put(lineNumber, record);
+                }
+            }
+        }
+        if (count > records.size()) {
+            WiagiLogger.logger.log(Level.WARNING, "Left out " + (count - records.size()) + " records of "
+                    + filePath + " already in the snapshot");
+        }
+        recordCount = count;
+        return records;
+    }
+
+    /**
+     * Returns the line that records the given generation, at the start of a snapshot or a run of records.
+     */
+    static String toGenerationRecord(long generation) {
+        return GENERATION_RECORD + STORAGE_SEPARATOR + generation;
+    }
+
+    /**
+     * Returns the generation recorded by a line, or -1 if the line is not a generation record.
+     *
+     * @param line A line of a snapshot or journal.
+     * @return The generation, which is not negative, or -1.
+     */
+    static long parseGeneration(String line) {
+        if (line.length() <= RECORD_DATA_INDEX || line.charAt(0) != GENERATION_RECORD
+                || !line.startsWith(STORAGE_SEPARATOR, 1)) {
+            return -1;
+        }
+        try {
+            long generation = Long.parseLong(line.substring(RECORD_DATA_INDEX));
+            return generation < 0 ? -1 : generation;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    boolean isCompactionDue() {
+        return recordCount > COMPACTION_THRESHOLD;
+    }
+
+    synchronized boolean hasQueuedRecords() {
+        return queuedRecords.length() > 0;
+    }
+
+    /**
+     * Moves the pending records to the queue of records to be written to the journal file.
+     */
+    synchronized void queuePendingRecords() {
+        queuedRecords.append(pendingRecords);
+        pendingRecords.setLength(0);
+    }
+
+    /**
+     * Appends the queued records to the journal file. The queue is only locked while the records are taken
+     * off it, so records can be queued while the file is written. If the file cannot be written, the records
+     * are put back at the front of the queue.
+     *
+     * @throws IOException If the journal file cannot be written.
+     */
+    void writeQueuedRecords() throws IOException {
+        synchronized (fileLock) {
+            String records;
+            synchronized (this) {
+                records = queuedRecords.toString();
+                queuedRecords.setLength(0);
+            }
+            if (records.isEmpty()) {
+                return;
+            }
+            try (FileWriter fw = new FileWriter(filePath, true)) {
+                fw.write(records);
+            } catch (IOException e) {
+                synchronized (this) {
+                    queuedRecords.insert(0, records);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Appends the pending and queued records to the journal file.
+     *
+     * @throws IOException If the journal file cannot be written.
+     */
+    void flush() throws IOException {
+        queuePendingRecords();
+        writeQueuedRecords();
+    }
+
+    /**
+     * Discards the journal file and the pending and queued records, after the list has been written to its
+     * snapshot file.
+     */
+    void clear() {
+        synchronized (fileLock) {
+            new File(filePath).delete();
+            synchronized (this) {
+                queuedRecords.setLength(0);
+            }
+            pendingRecords.setLength(0);
+            recordCount = 0;
+            recordedGeneration = -1;
+        }
+    }
+
+    /**
+     * Removes the first entry of the list that is stored identically to the given entry.
+     *
+     * @param list The list to remove from.
+     * @param entry The entry parsed from a remove record.
+     * @return True if a matching entry was found and removed.
+     */
+    static <T extends EntryType> boolean removeMatchingEntry(EntryList<T> list, T entry) {
+        String storedEntry = EntryFormatter.toStorageString(entry);
+        for (int i = list.findFirstIndexFrom(entry.getDate()); i < list.size(); i++) {
+            T candidate = list.get(i);
+            if (!candidate.getDate().equals(entry.getDate())) {
+                break;
+            }
+            if (EntryFormatter.toStorageString(candidate).equals(storedEntry)) {
+                list.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -8,6 +8,7 @@ import seedu.type.EntryType;
 import seedu.type.Income;
 import seedu.type.Spending;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -20,7 +21,7 @@ import static seedu.classes.Constants.LOAD_LAST_RECURRED_INDEX;
 import static seedu.classes.Constants.LOAD_RECURRENCE_INDEX;
 import static seedu.classes.Constants.LOAD_TAG_INDEX;
 import static seedu.classes.Constants.NO_RECURRENCE;
-import static seedu.classes.Constants.STORAGE_LOAD_SEPARATOR;
+import static seedu.classes.Constants.STORAGE_SEPARATOR;
 
 public class LoadStorageCheck {
     public static final String STORAGE_LAST_RECURRED_DATE = "last recurred date!";
@@ -28,6 +29,12 @@ public class LoadStorageCheck {
     public static final String STORAGE_DAY_RECURRENCE = "day of recurrence!";
     public static final String STORAGE_VALID_DAY_RECURRENCE = "day of recurrence between 1 and 31!";
     public static final String STORAGE_COMPULSORY_SIZE = "supposed to have 7 parameters!";
+    public static final String STORAGE_JOURNAL_RECORD = "journal record type!";
+    private static final int FIELD_COUNT = 7;
+    private static final char STORAGE_SEPARATOR_CHAR = '|';
+    private static final int MAX_PLAIN_AMOUNT_DIGITS = 11;
+    private static final int ISO_DATE_LENGTH = 10;
+    private static final RecurrenceFrequency[] RECURRENCE_FREQUENCIES = RecurrenceFrequency.values();
     public String storageType = "";
     public String corruptedErrorMessage;
     public String storageErrorMessage;
@@ -39,17 +46,26 @@ public class LoadStorageCheck {
         this.storageErrorMessage = corruptedErrorMessage + "error with ";
     }
 
+    /**
+     * Parses a line of a storage file into an entry.
+     * The line is scanned once to find its fields, and each field is then parsed in place where possible.
+     *
+     * @param newEntry The line to parse.
+     * @return The parsed {@link Income} or {@link Spending}, depending on the type of storage.
+     */
     public EntryType parseEntry(String newEntry) {
-        String[] entryData = newEntry.split(STORAGE_LOAD_SEPARATOR);
-        validateEntryDataLength(entryData);
+        int[] fieldBounds = findFieldBounds(newEntry);
+        validateEntryDataLength(fieldBounds);
 
-        double amount = parseAmount(entryData[LOAD_AMOUNT_INDEX]);
-        String description = validateDescription(entryData[LOAD_DESCRIPTION_INDEX]);
-        LocalDate date = parseDate(entryData[LOAD_DATE_INDEX]);
-        String tag = validateTag(entryData[LOAD_TAG_INDEX]);
-        RecurrenceFrequency recurrenceFrequency = parseRecurrenceFrequency(entryData[LOAD_RECURRENCE_INDEX]);
-        LocalDate lastRecurred = parseLastRecurredDate(entryData[LOAD_LAST_RECURRED_INDEX], recurrenceFrequency);
-        int dayOfRecurrence = parseDayOfRecurrence(entryData[LOAD_DAY_OF_RECURRENCE_INDEX]);
+        double amount = parseAmount(newEntry, fieldBounds, LOAD_AMOUNT_INDEX);
+        String description = validateDescription(getField(newEntry, fieldBounds, LOAD_DESCRIPTION_INDEX));
+        LocalDate date = parseDate(newEntry, fieldBounds, LOAD_DATE_INDEX);
+        String tag = validateTag(getField(newEntry, fieldBounds, LOAD_TAG_INDEX));
+        RecurrenceFrequency recurrenceFrequency = parseRecurrenceFrequency(newEntry, fieldBounds,
+                LOAD_RECURRENCE_INDEX);
+        LocalDate lastRecurred = parseLastRecurredDate(newEntry, fieldBounds, LOAD_LAST_RECURRED_INDEX,
+                recurrenceFrequency);
+        int dayOfRecurrence = parseDayOfRecurrence(newEntry, fieldBounds, LOAD_DAY_OF_RECURRENCE_INDEX);
 
         assert amount > 0 : "Amount should be greater than 0";
         assert description != null && !description.isEmpty() : "Description should not be null or empty";
@@ -66,15 +82,115 @@ public class LoadStorageCheck {
         return new Spending(amount, description, date, tag, recurrenceFrequency, lastRecurred, dayOfRecurrence);
     }
 
-    private void validateEntryDataLength(String[] entryData) {
-        if (entryData.length != 7) {
+    /**
+     * Returns the entry stored in an add or remove record of a journal.
+     *
+     * @param record The journal record to read.
+     * @return The stored entry, to be parsed with {@link #parseEntry(String)}.
+     */
+    public String getRecordData(String record) {
+        boolean isEntryRecord = record.length() > ListJournal.RECORD_DATA_INDEX
+                && (record.charAt(0) == ListJournal.ADD_RECORD || record.charAt(0) == ListJournal.REMOVE_RECORD)
+                && record.startsWith(STORAGE_SEPARATOR, 1);
+        if (!isEntryRecord) {
+            logger.log(Level.WARNING, storageErrorMessage + STORAGE_JOURNAL_RECORD);
+            throw new WiagiStorageCorruptedException(storageErrorMessage + STORAGE_JOURNAL_RECORD);
+        }
+        return record.substring(ListJournal.RECORD_DATA_INDEX);
+    }
+
+    /**
+     * Finds where each field of the line starts and ends. Field {@code i} lies between
+     * {@code fieldBounds[i] + 1} and {@code fieldBounds[i + 1]}.
+     * As with {@link String#split(String)}, trailing empty fields are not counted, and the last bound is
+     * set to -1 if the line does not have exactly {@value #FIELD_COUNT} fields.
+     */
+    private int[] findFieldBounds(String newEntry) {
+        int[] fieldBounds = new int[FIELD_COUNT + 1];
+        fieldBounds[0] = -1;
+        int fieldCount = 1;
+        int lineEnd = newEntry.length();
+        for (int i = 0; i < lineEnd; i++) {
+            if (newEntry.charAt(i) != STORAGE_SEPARATOR_CHAR) {
+                continue;
+            }
+            if (fieldCount == FIELD_COUNT) {
+                lineEnd = hasOnlySeparatorsFrom(newEntry, i) ? i : -1;
+                break;
+            }
+            fieldBounds[fieldCount] = i;
+            fieldCount++;
+        }
+        boolean isLastFieldEmpty = fieldBounds[fieldCount - 1] + 1 >= lineEnd;
+        fieldBounds[FIELD_COUNT] = (fieldCount == FIELD_COUNT && !isLastFieldEmpty) ? lineEnd : -1;
+        return fieldBounds;
+    }
+
+    private static boolean hasOnlySeparatorsFrom(String newEntry, int start) {
+        for (int i = start; i < newEntry.length(); i++) {
+            if (newEntry.charAt(i) != STORAGE_SEPARATOR_CHAR) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getField(String newEntry, int[] fieldBounds, int fieldIndex) {
+        return newEntry.substring(fieldBounds[fieldIndex] + 1, fieldBounds[fieldIndex + 1]);
+    }
+
+    private void validateEntryDataLength(int[] fieldBounds) {
+        if (fieldBounds[FIELD_COUNT] < 0) {
             logger.log(Level.WARNING, corruptedErrorMessage + STORAGE_COMPULSORY_SIZE);
             throw new WiagiStorageCorruptedException(corruptedErrorMessage + STORAGE_COMPULSORY_SIZE);
         }
-        assert entryData.length == 7 : corruptedErrorMessage + "supposed to have 7 parameters";
+        assert fieldBounds[FIELD_COUNT] >= 0 : corruptedErrorMessage + "supposed to have 7 parameters";
+    }
+
+    private double parseAmount(String newEntry, int[] fieldBounds, int fieldIndex) {
+        long cents = parsePlainCents(newEntry, fieldBounds[fieldIndex] + 1, fieldBounds[fieldIndex + 1]);
+        if (cents > 0) {
+            return cents / 100.0;
+        }
+        return parseFormattedAmount(getField(newEntry, fieldBounds, fieldIndex));
     }
 
-    private double parseAmount(String amountStr) {
+    /**
+     * Parses an amount written as plain digits with at most two decimal places, such as {@code 12.5}.
+     *
+     * @return The amount in cents, or -1 if the amount is written in any other form.
+     */
+    private static long parsePlainCents(String newEntry, int start, int end) {
+        int pointIndex = newEntry.indexOf('.', start);
+        int integerEnd = (pointIndex >= 0 && pointIndex < end) ? pointIndex : end;
+        int decimalPlaces = end - integerEnd - 1;
+        if (integerEnd == start || integerEnd - start > MAX_PLAIN_AMOUNT_DIGITS || decimalPlaces > 2) {
+            return -1;
+        }
+        long cents = parseDigits(newEntry, start, integerEnd) * 100;
+        if (decimalPlaces > 0) {
+            long decimals = parseDigits(newEntry, integerEnd + 1, end);
+            cents += (decimalPlaces == 1) ? decimals * 10 : decimals;
+        }
+        return (cents < 0 || decimalPlaces == 0) ? -1 : cents;
+    }
+
+    /**
+     * Returns the value of the digits between start and end, or a large negative number if there is a non-digit.
+     */
+    private static long parseDigits(String newEntry, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = newEntry.charAt(i);
+            if (c < '0' || c > '9') {
+                return Long.MIN_VALUE / 1000;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private double parseFormattedAmount(String amountStr) {
         try {
             double amount = CommandUtils.formatAmount(amountStr, "");
             assert amount > 0 : "Amount should be greater than 0";
@@ -94,9 +210,9 @@ public class LoadStorageCheck {
         return description;
     }
 
-    private LocalDate parseDate(String dateStr) {
+    private LocalDate parseDate(String newEntry, int[] fieldBounds, int fieldIndex) {
         try {
-            LocalDate date = LocalDate.parse(dateStr);
+            LocalDate date = parseIsoDate(newEntry, fieldBounds[fieldIndex] + 1, fieldBounds[fieldIndex + 1]);
             assert date != null : "Date should not be null";
             return date;
         } catch (Exception e) {
@@ -105,6 +221,26 @@ public class LoadStorageCheck {
         }
     }
 
+    /**
+     * Parses a date in the {@code yyyy-MM-dd} form directly from the line, falling back to
+     * {@link LocalDate#parse(CharSequence)} for any other form.
+     *
+     * @throws java.time.DateTimeException If the text is not a valid date.
+     */
+    private static LocalDate parseIsoDate(String newEntry, int start, int end) {
+        boolean isPlainIsoDate = end - start == ISO_DATE_LENGTH && newEntry.charAt(start + 4) == '-'
+                && newEntry.charAt(start + 7) == '-';
+        if (isPlainIsoDate) {
+            long year = parseDigits(newEntry, start, start + 4);
+            long month = parseDigits(newEntry, start + 5, start + 7);
+            long day = parseDigits(newEntry, start + 8, end);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                return LocalDate.of((int) year, (int) month, (int) day);
+            }
+        }
+        return LocalDate.parse(newEntry.substring(start, end));
+    }
+
     private String validateTag(String tag) {
         if (tag == null) {
             logger.log(Level.WARNING, storageErrorMessage + "tag!");
@@ -114,21 +250,33 @@ public class LoadStorageCheck {
         return tag;
     }
 
-    private RecurrenceFrequency parseRecurrenceFrequency(String recurrenceStr) {
-        try {
-            RecurrenceFrequency recurrenceFrequency = RecurrenceFrequency.valueOf(recurrenceStr);
-            assert recurrenceFrequency != null : "Recurrence frequency should not be null";
-            return recurrenceFrequency;
-        } catch (IllegalArgumentException e) {
-            logger.log(Level.WARNING, storageErrorMessage + STORAGE_RECURRENCE_FREQUENCY, e);
-            throw new WiagiStorageCorruptedException(storageErrorMessage + STORAGE_RECURRENCE_FREQUENCY);
+    private RecurrenceFrequency parseRecurrenceFrequency(String newEntry, int[] fieldBounds, int fieldIndex) {
+        int start = fieldBounds[fieldIndex] + 1;
+        int length = fieldBounds[fieldIndex + 1] - start;
+        for (RecurrenceFrequency recurrenceFrequency : RECURRENCE_FREQUENCIES) {
+            String name = recurrenceFrequency.name();
+            if (name.length() == length && newEntry.regionMatches(start, name, 0, length)) {
+                return recurrenceFrequency;
+            }
         }
+        logger.log(Level.WARNING, storageErrorMessage + STORAGE_RECURRENCE_FREQUENCY);
+        throw new WiagiStorageCorruptedException(storageErrorMessage + STORAGE_RECURRENCE_FREQUENCY);
     }
 
-    private LocalDate parseLastRecurredDate(String lastRecurredStr, RecurrenceFrequency recurrenceFrequency) {
+    private LocalDate parseLastRecurredDate(String newEntry, int[] fieldBounds, int fieldIndex,
+            RecurrenceFrequency recurrenceFrequency) {
+        int start = fieldBounds[fieldIndex] + 1;
+        int end = fieldBounds[fieldIndex + 1];
         LocalDate lastRecurred = null;
-        if (!lastRecurredStr.equals(NO_RECURRENCE)) {
-            lastRecurred = LocalDate.parse(lastRecurredStr);
+        boolean isNoRecurrence = end - start == NO_RECURRENCE.length()
+                && newEntry.startsWith(NO_RECURRENCE, start);
+        if (!isNoRecurrence) {
+            try {
+                lastRecurred = parseIsoDate(newEntry, start, end);
+            } catch (DateTimeException e) {
+                logger.log(Level.WARNING, storageErrorMessage + STORAGE_LAST_RECURRED_DATE, e);
+                throw new WiagiStorageCorruptedException(storageErrorMessage + STORAGE_LAST_RECURRED_DATE);
+            }
         }
 
         if (recurrenceFrequency != RecurrenceFrequency.NONE && lastRecurred == null) {
@@ -140,19 +288,23 @@ public class LoadStorageCheck {
         return lastRecurred;
     }
 
-    private int parseDayOfRecurrence(String dayOfRecurrenceStr) {
-        int dayOfRecurrence;
-        try {
-            dayOfRecurrence = Integer.parseInt(dayOfRecurrenceStr);
-        } catch (NumberFormatException e) {
-            logger.log(Level.WARNING, storageErrorMessage + STORAGE_DAY_RECURRENCE, e);
-            throw new WiagiStorageCorruptedException(storageErrorMessage + STORAGE_DAY_RECURRENCE);
+    private int parseDayOfRecurrence(String newEntry, int[] fieldBounds, int fieldIndex) {
+        int start = fieldBounds[fieldIndex] + 1;
+        int end = fieldBounds[fieldIndex + 1];
+        long dayOfRecurrence = (end > start && end - start <= 2) ? parseDigits(newEntry, start, end) : -1;
+        if (dayOfRecurrence < 0) {
+            try {
+                dayOfRecurrence = Integer.parseInt(newEntry.substring(start, end));
+            } catch (NumberFormatException e) {
+                logger.log(Level.WARNING, storageErrorMessage + STORAGE_DAY_RECURRENCE, e);
+                throw new WiagiStorageCorruptedException(storageErrorMessage + STORAGE_DAY_RECURRENCE);
+            }
         }
         if (dayOfRecurrence < 1 || dayOfRecurrence > 31) {
             logger.log(Level.WARNING, storageErrorMessage + STORAGE_VALID_DAY_RECURRENCE);
             throw new WiagiStorageCorruptedException(storageErrorMessage + STORAGE_VALID_DAY_RECURRENCE);
         }
         assert dayOfRecurrence >= 1 && dayOfRecurrence <= 31 : "Day of recurrence should be between 1 and 31";
-        return dayOfRecurrence;
+        return (int) dayOfRecurrence;
     }
 }
@@ -11,6 +11,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.logging.Level;
 
 import static seedu.storage.IncomeListStorage.INCOMES_FILE_PATH;
@@ -26,13 +28,23 @@ public class LoginStorage {
      * Retrieves the data of the user password from its data file into the program
      */
     static void load() {
+        FutureTask<String> passwordHash = new FutureTask<>(LoginStorage::readPasswordHash);
+        passwordHash.run();
+        load(passwordHash);
+    }
+
+    /**
+     * Retrieves the user password read by {@link #readPasswordHash()} into the program, creating a new user if
+     * there is no password file
+     *
+     * @param passwordHash the reading of the password file, which is waited for if it has not finished
+     */
+    static void load(Future<String> passwordHash) {
         WiagiLogger.logger.log(Level.INFO, "Starting to load password file...");
         try {
-            File passwordFile = new File(PASSWORD_FILE_PATH);
-            if (passwordFile.exists()) {
-                Scanner scanner = new Scanner(passwordFile);
-                String passwordHash = scanner.next();
-                Storage.password = Integer.parseInt(passwordHash);
+            String loadedPasswordHash = Storage.getLoaded(passwordHash);
+            if (loadedPasswordHash != null) {
+                Storage.password = Integer.parseInt(loadedPasswordHash);
             } else {
                 createNewUser();
             }
@@ -48,10 +60,32 @@ public class LoginStorage {
         WiagiLogger.logger.log(Level.INFO, "Finish loading password file.");
     }
 
+    /**
+     * Reads the password hash from the password file without printing anything, so that it can run on another
+     * thread
+     *
+     * @return the password hash, or null if there is no password file
+     * @throws IOException if the password file cannot be read
+     * @throws NoSuchElementException if the password file is empty
+     */
+    static String readPasswordHash() throws IOException {
+        File passwordFile = new File(PASSWORD_FILE_PATH);
+        if (!passwordFile.exists()) {
+            return null;
+        }
+        try (Scanner scanner = new Scanner(passwordFile)) {
+            return scanner.next();
+        }
+    }
+
     private static void resetAllData() {
         new File(PASSWORD_FILE_PATH).delete();
         new File(SPENDINGS_FILE_PATH).delete();
         new File(INCOMES_FILE_PATH).delete();
+        IncomeListStorage.journal.clear();
+        SpendingListStorage.journal.clear();
+        IncomeListStorage.partitions.clear();
+        SpendingListStorage.partitions.clear();
         Storage.spendings = new SpendingList();
         Storage.incomes = new IncomeList();
     }
@@ -0,0 +1,181 @@
+package seedu.storage;
+
+import seedu.exception.WiagiStorageCorruptedException;
+import seedu.type.EntryType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Holds the contents of a storage file after its lines are parsed, without changing any list or printing anything.
+ * The entries and the corrupted lines can then be applied to the application's lists in the same order as if
+ * each line had been parsed and applied one at a time.
+ *
+ * @param <T> The type of the entries in the file.
+ */
+class ParsedStorageFile<T extends EntryType> {
+    /** The number of lines below which a chunk is parsed on its own instead of being split further. */
+    static final int CHUNK_SIZE = 4096;
+
+    private final String firstLine;
+    private final ArrayList<T> entries;
+    private final ArrayList<CorruptedLine> corruptedLines;
+    /** The generation of the snapshot, or 0 if the file does not record one. */
+    private long generation = 0;
+
+    /**
+     * Creates the contents of a storage file that has already been parsed.
+     *
+     * @param firstLine The line before the entries, such as the budgets, or null if the file has none.
+     * @param entries The entries of the file.
+     * @param corruptedLines The lines that could not be parsed, in line order.
+     */
+    ParsedStorageFile(String firstLine, ArrayList<T> entries, ArrayList<CorruptedLine> corruptedLines) {
+        this.firstLine = firstLine;
+        this.entries = entries;
+        this.corruptedLines = corruptedLines;
+    }
+
+    private ParsedStorageFile(String firstLine, Chunk<T> chunk) {
+        this(firstLine, chunk.entries, chunk.corruptedLines);
+    }
+
+    /**
+     * Parses each line of a storage file in order on the calling thread.
+     *
+     * @param firstLine The line before the entries, such as the budgets, or null if the file has none.
+     * @param lines The entry lines of the file. Line {@code i} is reported as line {@code i + 1}.
+     * @param parser Parses a line into an entry, throwing {@link WiagiStorageCorruptedException} if it cannot.
+     * @return The entries in file order and the corrupted lines in line order.
+     */
+    static <T extends EntryType> ParsedStorageFile<T> parse(String firstLine, List<String> lines,
+            Function<String, T> parser) {
+        return new ParsedStorageFile<>(firstLine, Chunk.parse(lines, 0, lines.size(), parser));
+    }
+
+    /**
+     * Parses the lines of a storage file in chunks of {@value #CHUNK_SIZE} lines on the given pool, sorting each
+     * chunk by date and merging the chunks. Entries of the same date keep their order in the file, so adding the
+     * entries to a list gives the same list as adding the entries from {@link #parse(String, List, Function)}.
+     *
+     * @param firstLine The line before the entries, such as the budgets, or null if the file has none.
+     * @param lines The entry lines of the file. Line {@code i} is reported as line {@code i + 1}.
+     * @param parser Parses a line into an entry, throwing {@link WiagiStorageCorruptedException} if it cannot.
+     *     It is called from several threads at once.
+     * @param pool The pool to parse the chunks on.
+     * @return The entries in date order and the corrupted lines in line order.
+     */
+    static <T extends EntryType> ParsedStorageFile<T> parseInParallel(String firstLine, List<String> lines,
+            Function<String, T> parser, ForkJoinPool pool) {
+        return new ParsedStorageFile<>(firstLine, pool.invoke(new ChunkParser<>(lines, 0, lines.size(), parser)));
+    }
+
+    String getFirstLine() {
+        return firstLine;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    void setGeneration(long generation) {
+        this.generation = generation;
+    }
+
+    ArrayList<T> getEntries() {
+        return entries;
+    }
+
+    ArrayList<CorruptedLine> getCorruptedLines() {
+        return corruptedLines;
+    }
+
+    /**
+     * A line of the file that could not be parsed.
+     */
+    static class CorruptedLine {
+        final int lineNumber;
+        final WiagiStorageCorruptedException error;
+
+        CorruptedLine(int lineNumber, WiagiStorageCorruptedException error) {
+            this.lineNumber = lineNumber;
+            this.error = error;
+        }
+    }
+
+    private static class Chunk<T extends EntryType> {
+        private final ArrayList<T> entries;
+        private final ArrayList<CorruptedLine> corruptedLines;
+
+        private Chunk(ArrayList<T> entries, ArrayList<CorruptedLine> corruptedLines) {
+            this.entries = entries;
+            this.corruptedLines = corruptedLines;
+        }
+
+        private static <T extends EntryType> Chunk<T> parse(List<String> lines, int start, int end,
+                Function<String, T> parser) {
+            ArrayList<T> entries = new ArrayList<>(end - start);
+            ArrayList<CorruptedLine> corruptedLines = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                try {
+                    entries.add(parser.apply(lines.get(i)));
+                } catch (WiagiStorageCorruptedException e) {
+                    corruptedLines.add(new CorruptedLine(i + 1, e));
+                }
+            }
+            return new Chunk<>(entries, corruptedLines);
+        }
+
+        /**
+         * Merges this chunk with the chunk of the lines that follow it. Both chunks must be in date order, and
+         * entries of the same date from this chunk are placed first.
+         */
+        private Chunk<T> mergeWith(Chunk<T> next) {
+            ArrayList<T> merged = new ArrayList<>(entries.size() + next.entries.size());
+            int i = 0;
+            int j = 0;
+            while (i < entries.size() && j < next.entries.size()) {
+                if (next.entries.get(j).getDate().isBefore(entries.get(i).getDate())) {
+                    merged.add(next.entries.get(j++));
+                } else {
+                    merged.add(entries.get(i++));
+                }
+            }
+            merged.addAll(entries.subList(i, entries.size()));
+            merged.addAll(next.entries.subList(j, next.entries.size()));
+            corruptedLines.addAll(next.corruptedLines);
+            return new Chunk<>(merged, corruptedLines);
+        }
+    }
+
+    private static class ChunkParser<T extends EntryType> extends RecursiveTask<Chunk<T>> {
+        private final List<String> lines;
+        private final int start;
+        private final int end;
+        private final Function<String, T> parser;
+
+        private ChunkParser(List<String> lines, int start, int end, Function<String, T> parser) {
+            this.lines = lines;
+            this.start = start;
+            this.end = end;
+            this.parser = parser;
+        }
+
+        @Override
+        protected Chunk<T> compute() {
+            if (end - start <= CHUNK_SIZE) {
+                Chunk<T> chunk = Chunk.parse(lines, start, end, parser);
+                chunk.entries.sort((first, second) -> first.getDate().compareTo(second.getDate()));
+                return chunk;
+            }
+            int middle = (start + end) >>> 1;
+            ChunkParser<T> firstHalf = new ChunkParser<>(lines, start, middle, parser);
+            firstHalf.fork();
+            Chunk<T> secondChunk = new ChunkParser<>(lines, middle, end, parser).compute();
+            return firstHalf.join().mergeWith(secondChunk);
+        }
+    }
+}
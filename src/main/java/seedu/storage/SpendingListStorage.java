@@ -8,9 +8,14 @@ import seedu.type.SpendingList;
 import seedu.classes.Ui;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Scanner;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 import static seedu.classes.Constants.LOAD_DAILY_BUDGET_INDEX;
@@ -19,7 +24,6 @@ import static seedu.classes.Constants.LOAD_SPENDING_FILE_ERROR;
 import static seedu.classes.Constants.LOAD_YEARLY_BUDGET_INDEX;
 import static seedu.classes.Constants.SAVE_SPENDING_FILE_ERROR;
 import static seedu.classes.Constants.STORAGE_LOAD_SEPARATOR;
-import static seedu.classes.Constants.STORAGE_SEPARATOR;
 import static seedu.storage.LoginStorage.PASSWORD_FILE_PATH;
 
 /**
@@ -27,17 +31,35 @@ import static seedu.storage.LoginStorage.PASSWORD_FILE_PATH;
  */
 public class SpendingListStorage {
     static final String SPENDINGS_FILE_PATH = "./spendings.txt";
+    static final String SPENDINGS_JOURNAL_PATH = "./spendings.journal";
+    static final String SPENDINGS_MANIFEST_PATH = "./spendings.manifest";
+    /** The path of the segment of the past year and generation given. */
+    static final String SPENDINGS_SEGMENT_PATH_FORMAT = "./spendings-%d-%d.bin";
     static LoadStorageCheck storageUtils = new LoadStorageCheck("spending");
+    static ListJournal<Spending> journal = new ListJournal<>(SPENDINGS_JOURNAL_PATH);
+    static YearPartitions<Spending> partitions = new YearPartitions<>(SPENDINGS_MANIFEST_PATH,
+            SPENDINGS_SEGMENT_PATH_FORMAT, BinaryLedgerFile.SPENDINGS, Spending::new, journal,
+            LOAD_SPENDING_FILE_ERROR);
+    /** The version stamp of the spending list when it was last loaded or saved. */
+    private static long savedVersion;
+    private static String savedBudgetDetails;
+
     /**
      * Saves the spending list, including each spending entry and budget details, to a file.
+     * Spendings of past years that changed are written to their yearly segments instead.
+     * As the files then hold every change, the journal is discarded. The file records the next generation of the
+     * journal, so that the old journal is not replayed onto it if the application stops before it is discarded.
      *
      * @param spendings the SpendingList to be saved.
      */
     static void save(SpendingList spendings) {
         assert spendings != null : "SpendingList should not be null";
         WiagiLogger.logger.log(Level.INFO, "Starting to save spendings...");
+        long version = spendings.getVersion();
         try {
             handleWriteFile(spendings);
+            journal.clear();
+            savedVersion = version;
             WiagiLogger.logger.log(Level.INFO, "Successfully saved spendings file");
         } catch (IOException e) {
             WiagiLogger.logger.log(Level.WARNING, "Unable to save spendings file", e);
@@ -47,44 +69,113 @@ public class SpendingListStorage {
         WiagiLogger.logger.log(Level.INFO, "Finish saving spendings file");
     }
 
-    private static void handleWriteFile(SpendingList spendings) throws IOException {
-        FileWriter fw = new FileWriter(SPENDINGS_FILE_PATH);
-        String budgetDetails = spendings.getDailyBudget() + STORAGE_SEPARATOR +
-                spendings.getMonthlyBudget() + STORAGE_SEPARATOR + spendings.getYearlyBudget();
-        fw.write(budgetDetails + System.lineSeparator());
-        for (Spending spending : spendings) {
-            String singleEntry = spending.getAmount() + STORAGE_SEPARATOR + spending.getDescription() +
-                    STORAGE_SEPARATOR + spending.getDate() + STORAGE_SEPARATOR + spending.getTag() +
-                    STORAGE_SEPARATOR + spending.getRecurrenceFrequency() + STORAGE_SEPARATOR +
-                    spending.getLastRecurrence() + STORAGE_SEPARATOR + spending.getDayOfRecurrence();
-            fw.write(singleEntry + System.lineSeparator());
+    /**
+     * Saves the changes made to the spending list and its budgets by appending them to the journal.
+     * The whole list is only rewritten when there is no spendings file yet, when the journal has grown
+     * past its compaction threshold, or when spendings of past years are waiting to be moved to their segments.
+     * Nothing is written if the list and its budgets have not changed since they were last loaded or saved.
+     *
+     * @param spendings the SpendingList to be saved, which must be observed by the journal.
+     */
+    static void saveChanges(SpendingList spendings) {
+        boolean hasFile = new File(SPENDINGS_FILE_PATH).exists();
+        boolean isSaveDue = partitions.isSaveDue();
+        if (spendings.getVersion() == savedVersion && hasFile && !journal.hasQueuedRecords() && !isSaveDue) {
+            WiagiLogger.logger.log(Level.INFO, "Spendings unchanged since last save, skipping save");
+            return;
+        }
+        if (journal.isCompactionDue() || !hasFile || isSaveDue) {
+            WiagiLogger.logger.log(Level.INFO, "Compacting spendings journal");
+            save(spendings);
+            return;
+        }
+        queueChanges(spendings);
+        try {
+            journal.writeQueuedRecords();
+            WiagiLogger.logger.log(Level.INFO, "Successfully appended to spendings journal");
+        } catch (IOException e) {
+            WiagiLogger.logger.log(Level.WARNING, "Unable to append to spendings journal", e);
+            Ui.printWithTab(SAVE_SPENDING_FILE_ERROR);
         }
-        fw.close();
     }
 
     /**
-     * Loads the spending data from a file into the application's spending list.
-     * If no file exists, a new one is created.
+     * Queues the changes made to the spending list and its budgets since they were last queued or saved, to be
+     * appended to the journal by {@link #writeQueuedChanges()}. This only copies the journal records, without
+     * any file access.
+     *
+     * @param spendings the SpendingList to be saved, which must be observed by the journal.
+     */
+    static void queueChanges(SpendingList spendings) {
+        long version = spendings.getVersion();
+        if (version == savedVersion) {
+            return;
+        }
+        String budgetDetails = EntryFormatter.toBudgetString(spendings);
+        if (!budgetDetails.equals(savedBudgetDetails)) {
+            journal.addRecord(ListJournal.BUDGET_RECORD, budgetDetails);
+        }
+        journal.queuePendingRecords();
+        savedBudgetDetails = budgetDetails;
+        savedVersion = version;
+    }
+
+    /**
+     * Appends the queued changes to the journal.
+     *
+     * @throws IOException If the journal cannot be written. The changes stay queued.
+     */
+    static void writeQueuedChanges() throws IOException {
+        journal.writeQueuedRecords();
+    }
+
+    private static void handleWriteFile(SpendingList spendings) throws IOException {
+        String budgetDetails = EntryFormatter.toBudgetString(spendings);
+        String firstLines = ListJournal.toGenerationRecord(journal.startNextGeneration()) + System.lineSeparator()
+                + budgetDetails;
+        AtomicFileWriter.write(Paths.get(SPENDINGS_FILE_PATH), firstLines, partitions.saveSegments(spendings));
+        partitions.finishSave();
+        savedBudgetDetails = budgetDetails;
+    }
+
+    /**
+     * Loads the spending data from a file into the application's spending list, reading and parsing the file on
+     * the calling thread.
      */
     static void load() {
+        FutureTask<ParsedStorageFile<Spending>> spendingFile = new FutureTask<>(() -> readFile(null));
+        spendingFile.run();
+        load(spendingFile);
+    }
+
+    /**
+     * Loads the spending data read by {@link #readFile(ForkJoinPool)} into the application's spending list.
+     * Budgets are loaded, corrupted entries are reported and the journal is replayed on the calling thread.
+     * Only the spendings file is loaded, and the segments of past years are loaded when they are first needed.
+     *
+     * @param spendingFile the reading of the spendings file, which is waited for if it has not finished
+     */
+    static void load(Future<ParsedStorageFile<Spending>> spendingFile) {
         WiagiLogger.logger.log(Level.INFO, "Starting to load spendings...");
-        File spendingFile = new File(SPENDINGS_FILE_PATH);
-        int errorEntryNumber = 0;
         try {
-            if (!spendingFile.exists() || spendingFile.length() == 0) {
+            partitions.open(Storage.spendings);
+            ParsedStorageFile<Spending> loadedSpendings = Storage.getLoaded(spendingFile);
+            if (loadedSpendings == null) {
                 emptyFileErrorHandling();
                 return;
             }
-            Scanner spendingReader = new Scanner(spendingFile);
-            assert spendingReader.hasNext() : "file is not empty";
-            String[] budgetDetails = spendingReader.nextLine().split(STORAGE_LOAD_SEPARATOR);
-            loadBudgets(budgetDetails);
-            while (spendingReader.hasNext()) {
-                String newEntry = spendingReader.nextLine();
-                errorEntryNumber++;
-                processEntry(newEntry, errorEntryNumber);
+            journal.setGeneration(loadedSpendings.getGeneration());
+            savedBudgetDetails = loadedSpendings.getFirstLine();
+            loadBudgets(savedBudgetDetails.split(STORAGE_LOAD_SEPARATOR));
+            for (ParsedStorageFile.CorruptedLine corruptedLine : loadedSpendings.getCorruptedLines()) {
+                handleCorruptedEntry(corruptedLine.error, corruptedLine.lineNumber);
+            }
+            Storage.spendings.addAll(partitions.removeSavedEntries(loadedSpendings.getEntries()));
+            replayJournal();
+            savedVersion = Storage.spendings.getVersion();
+            if (partitions.hasInterruptedSave()) {
+                save(Storage.spendings);
             }
-            spendingReader.close();
             WiagiLogger.logger.log(Level.INFO, "Successfully loaded spendings from file");
         } catch (IOException e) {
             WiagiLogger.logger.log(Level.WARNING, "Unable to open spendings file", e);
@@ -93,6 +184,52 @@ public class SpendingListStorage {
         WiagiLogger.logger.log(Level.INFO, "Finish loading spendings file.");
     }
 
+    /**
+     * Reads and parses the spendings file without changing the spending list or printing anything, so that it
+     * can run on another thread. The first line of the file holds the generation, if any, and the next the
+     * budgets.
+     *
+     * @param pool the pool to parse the file on in chunks, or null to parse it on the calling thread
+     * @return the parsed spendings file, or null if there is no spendings file or it is empty
+     * @throws IOException if the spendings file cannot be read
+     */
+    static ParsedStorageFile<Spending> readFile(ForkJoinPool pool) throws IOException {
+        return readFile(new File(SPENDINGS_FILE_PATH), pool);
+    }
+
+    /**
+     * Reads and parses a file of spendings in the text format without printing anything.
+     *
+     * @param spendingFile the file to read, whose first lines hold the generation, if any, and the budgets
+     * @param pool the pool to parse the file on in chunks, or null to parse it on the calling thread
+     * @return the parsed file, or null if the file does not exist or is empty
+     * @throws IOException if the file cannot be read
+     */
+    static ParsedStorageFile<Spending> readFile(File spendingFile, ForkJoinPool pool) throws IOException {
+        if (!spendingFile.exists() || spendingFile.length() == 0) {
+            return null;
+        }
+        String budgetDetails;
+        long generation;
+        ArrayList<String> lines = new ArrayList<>();
+        try (StorageReader spendingReader = new StorageReader(spendingFile)) {
+            budgetDetails = spendingReader.nextLine();
+            generation = ListJournal.parseGeneration(budgetDetails);
+            if (generation >= 0) {
+                budgetDetails = spendingReader.nextLine();
+            }
+            while (spendingReader.hasNext()) {
+                lines.add(spendingReader.nextLine());
+            }
+        }
+        Function<String, Spending> parser = line -> (Spending) storageUtils.parseEntry(line);
+        ParsedStorageFile<Spending> parsedFile = (pool == null)
+                ? ParsedStorageFile.parse(budgetDetails, lines, parser)
+                : ParsedStorageFile.parseInParallel(budgetDetails, lines, parser, pool);
+        parsedFile.setGeneration(Math.max(generation, 0));
+        return parsedFile;
+    }
+
     private static void loadBudgets(String[] budgetDetails) {
         if (budgetDetails.length != 3) {
             WiagiLogger.logger.log(Level.WARNING, "Corrupted budget details found in spendings file");
@@ -116,17 +253,43 @@ public class SpendingListStorage {
         }
     }
 
-    private static void processEntry(String newEntry, int counter) {
+    /**
+     * Applies the changes recorded in the journal since the spendings file was last written.
+     */
+    private static void replayJournal() throws IOException {
+        for (Map.Entry<Integer, String> record : journal.readRecords().entrySet()) {
+            processRecord(record.getValue(), record.getKey());
+        }
+    }
+
+    private static void processRecord(String record, int counter) {
+        if (record.length() > ListJournal.RECORD_DATA_INDEX && record.charAt(0) == ListJournal.BUDGET_RECORD) {
+            savedBudgetDetails = record.substring(ListJournal.RECORD_DATA_INDEX);
+            loadBudgets(savedBudgetDetails.split(STORAGE_LOAD_SEPARATOR));
+            return;
+        }
         try {
-            Spending nextEntry = (Spending) storageUtils.parseEntry(newEntry);
-            Storage.spendings.add(nextEntry);
+            Spending entry = (Spending) storageUtils.parseEntry(storageUtils.getRecordData(record));
+            if (partitions.isSaved(entry)) {
+                return;
+            }
+            partitions.markChanged(entry);
+            if (record.charAt(0) == ListJournal.ADD_RECORD) {
+                Storage.spendings.add(entry);
+                return;
+            }
+            partitions.loadYearOf(entry);
+            if (!ListJournal.removeMatchingEntry(Storage.spendings, entry)) {
+                WiagiLogger.logger.log(Level.WARNING, "Removed spending in journal line " + counter + " not found");
+            }
         } catch (WiagiStorageCorruptedException e) {
-            handleCorruptedEntry(e, counter);
+            WiagiLogger.logger.log(Level.WARNING, "Corrupted spending journal record at line " + counter, e);
+            Ui.handleCorruptedEntry(e, counter, "the spendings journal");
         }
     }
 
     private static void handleCorruptedEntry(WiagiStorageCorruptedException e, int counter) {
         WiagiLogger.logger.log(Level.WARNING, "Corrupted entry found in spendings file at line " + counter, e);
-        Ui.handleCorruptedEntry(e, counter);
+        Ui.handleCorruptedEntry(e, counter, "the spendings file");
     }
 }
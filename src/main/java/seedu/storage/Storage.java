@@ -1,8 +1,19 @@
 package seedu.storage;
 
+import seedu.classes.WiagiLogger;
+import seedu.type.Income;
 import seedu.type.IncomeList;
+import seedu.type.Spending;
 import seedu.type.SpendingList;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
+
 /**
  * Handles storage operations for the application, including loading and saving data.
  * Manages the incomes and spendings lists, as well as the password.
@@ -14,23 +25,92 @@ public class Storage {
 
     /**
      * Constructs a Storage object and loads the data for incomes, spendings, and login credentials.
+     * The three files are read and parsed in parallel, with large files parsed in chunks, and are then loaded
+     * into the lists one after another on the calling thread, so the lists and any messages are the same as
+     * when each file is loaded in turn.
+     * Only the entries of the current year and the recurring entries are loaded, and the entries of each past
+     * year are loaded from its segment the first time a query needs them.
+     * Changes made to the loaded lists from then on are recorded in their journals.
      */
     public Storage() {
-        IncomeListStorage.load();
-        SpendingListStorage.load();
-        LoginStorage.load();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        FutureTask<ParsedStorageFile<Income>> incomeFile = new FutureTask<>(() -> IncomeListStorage.readFile(pool));
+        FutureTask<ParsedStorageFile<Spending>> spendingFile =
+                new FutureTask<>(() -> SpendingListStorage.readFile(pool));
+        FutureTask<String> passwordHash = new FutureTask<>(LoginStorage::readPasswordHash);
+        pool.execute(incomeFile);
+        pool.execute(spendingFile);
+        pool.execute(passwordHash);
+        IncomeListStorage.load(incomeFile);
+        SpendingListStorage.load(spendingFile);
+        LoginStorage.load(passwordHash);
+        IncomeListStorage.partitions.attach(incomes);
+        SpendingListStorage.partitions.attach(spendings);
     }
 
     /**
-     * Saves the provided IncomeList and SpendingList data to persistent storage.
+     * Saves the changes made to the provided IncomeList and SpendingList to persistent storage.
+     * A list that has not changed since it was last loaded or saved is skipped, so saving again, such as from
+     * the shutdown hook after the final save, writes nothing. Concurrent saves run one at a time.
      *
      * @param incomes the list of incomes to save.
      * @param spendings the list of spendings to save.
      */
-    public void save(IncomeList incomes, SpendingList spendings) {
-        IncomeListStorage.save(incomes);
-        SpendingListStorage.save(spendings);
+    public synchronized void save(IncomeList incomes, SpendingList spendings) {
+        IncomeListStorage.saveChanges(incomes);
+        SpendingListStorage.saveChanges(spendings);
+    }
+
+    /**
+     * Queues the changes made to the provided lists since they were last queued or saved, to be written by the
+     * autosave thread. This does not access any file, so it can be called after every command.
+     *
+     * @param incomes the list of incomes to save.
+     * @param spendings the list of spendings to save.
+     */
+    public void queueChanges(IncomeList incomes, SpendingList spendings) {
+        IncomeListStorage.queueChanges(incomes);
+        SpendingListStorage.queueChanges(spendings);
+    }
+
+    /**
+     * Appends the queued changes to the journals. Changes that cannot be written stay queued for the next save.
+     */
+    synchronized void writeQueuedChanges() {
+        try {
+            IncomeListStorage.writeQueuedChanges();
+            SpendingListStorage.writeQueuedChanges();
+        } catch (IOException e) {
+            WiagiLogger.logger.log(Level.WARNING, "Unable to write queued changes to the journals", e);
+        }
     }
+
+    /**
+     * Waits for a file to be read and returns what was read.
+     *
+     * @param fileReading the reading of the file.
+     * @return what was read from the file.
+     * @throws IOException if the file could not be read, or the wait was interrupted.
+     */
+    static <T> T getLoaded(Future<T> fileReading) throws IOException {
+        try {
+            return fileReading.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading a file");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
     public static IncomeList getIncomes() {
         return incomes;
     }
@@ -0,0 +1,98 @@
+package seedu.storage;
+
+import seedu.classes.Money;
+import seedu.type.EntryType;
+import seedu.type.Income;
+import seedu.type.Spending;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static seedu.classes.Constants.STORAGE_LOAD_SEPARATOR;
+
+/**
+ * Converts incomes and spendings files between the text format and the binary format of {@link BinaryLedgerFile}.
+ * Run with {@code java seedu.storage.StorageFormatConverter to-binary|to-text incomes|spendings <from> <to>}.
+ */
+public class StorageFormatConverter {
+    private static final String USAGE =
+            "Usage: StorageFormatConverter to-binary|to-text incomes|spendings <from file> <to file>";
+
+    public static void main(String[] args) {
+        boolean isValid = args.length == 4 && (args[0].equals("to-binary") || args[0].equals("to-text"))
+                && (args[1].equals("incomes") || args[1].equals("spendings"));
+        if (!isValid) {
+            System.out.println(USAGE);
+            return;
+        }
+        boolean isSpendings = args[1].equals("spendings");
+        Path from = Paths.get(args[2]);
+        Path to = Paths.get(args[3]);
+        try {
+            int corruptedCount = args[0].equals("to-binary") ? toBinary(from, to, isSpendings)
+                    : toText(from, to, isSpendings);
+            System.out.println("Converted " + from + " to " + to + ", skipping " + corruptedCount
+                    + " corrupted entries");
+        } catch (IOException e) {
+            System.out.println("Unable to convert " + from + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Converts a file in the text format to the binary format. Corrupted entries are left out.
+     *
+     * @param textFile The file to convert.
+     * @param binaryFile The file to write.
+     * @param isSpendings True if the file holds spendings and budgets, false if it holds incomes.
+     * @return The number of corrupted entries left out.
+     * @throws IOException If a file cannot be read or written, or the budgets are corrupted.
+     */
+    static int toBinary(Path textFile, Path binaryFile, boolean isSpendings) throws IOException {
+        if (!isSpendings) {
+            ParsedStorageFile<Income> incomes = IncomeListStorage.readFile(textFile.toFile(), null);
+            BinaryLedgerFile.write(binaryFile, BinaryLedgerFile.INCOMES, null, incomes.getEntries());
+            return incomes.getCorruptedLines().size();
+        }
+        ParsedStorageFile<Spending> spendings = SpendingListStorage.readFile(textFile.toFile(), null);
+        if (spendings == null) {
+            throw new IOException(textFile + " is empty");
+        }
+        BinaryLedgerFile.write(binaryFile, BinaryLedgerFile.SPENDINGS, parseBudgets(spendings.getFirstLine()),
+                spendings.getEntries());
+        return spendings.getCorruptedLines().size();
+    }
+
+    /**
+     * Converts a file in the binary format to the text format. Corrupted entries are left out.
+     *
+     * @param binaryFile The file to convert.
+     * @param textFile The file to write.
+     * @param isSpendings True if the file holds spendings and budgets, false if it holds incomes.
+     * @return The number of corrupted entries left out.
+     * @throws IOException If a file cannot be read or written, or the binary file is damaged.
+     */
+    static int toText(Path binaryFile, Path textFile, boolean isSpendings) throws IOException {
+        ParsedStorageFile<? extends EntryType> entries = isSpendings
+                ? BinaryLedgerFile.read(binaryFile, BinaryLedgerFile.SPENDINGS, Spending::new)
+                : BinaryLedgerFile.read(binaryFile, BinaryLedgerFile.INCOMES, Income::new);
+        AtomicFileWriter.write(textFile, entries.getFirstLine(), entries.getEntries());
+        return entries.getCorruptedLines().size();
+    }
+
+    private static long[] parseBudgets(String budgetDetails) throws IOException {
+        String[] budgets = budgetDetails.split(STORAGE_LOAD_SEPARATOR);
+        if (budgets.length != 3) {
+            throw new IOException("Corrupted budget details: " + budgetDetails);
+        }
+        long[] budgetsInCents = new long[3];
+        try {
+            for (int i = 0; i < 3; i++) {
+                budgetsInCents[i] = Money.toCents(Double.parseDouble(budgets[i]));
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Corrupted budget details: " + budgetDetails, e);
+        }
+        return budgetsInCents;
+    }
+}
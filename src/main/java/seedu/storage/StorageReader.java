@@ -0,0 +1,64 @@
+package seedu.storage;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+
+/**
+ * Reads a storage file line by line through a large buffer.
+ * Like a {@link java.util.Scanner} that is read with {@code hasNext()} and {@code nextLine()}, blank lines at
+ * the end of the file are skipped, while blank lines in between entries are still returned.
+ */
+class StorageReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final BufferedReader reader;
+    private final ArrayDeque<String> linesAhead = new ArrayDeque<>();
+    private boolean hasNonBlankLineAhead = false;
+
+    StorageReader(File file) throws FileNotFoundException {
+        this.reader = new BufferedReader(new FileReader(file), BUFFER_SIZE);
+    }
+
+    /**
+     * Returns true if there is a line with any non-whitespace character left in the file.
+     *
+     * @throws IOException If the file cannot be read.
+     */
+    boolean hasNext() throws IOException {
+        while (!hasNonBlankLineAhead) {
+            String line = reader.readLine();
+            if (line == null) {
+                return false;
+            }
+            linesAhead.add(line);
+            hasNonBlankLineAhead = !line.isBlank();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the next line of the file, or an empty string if only blank lines are left.
+     *
+     * @throws IOException If the file cannot be read.
+     */
+    String nextLine() throws IOException {
+        if (linesAhead.isEmpty() && !hasNext()) {
+            return "";
+        }
+        String line = linesAhead.poll();
+        if (linesAhead.isEmpty()) {
+            hasNonBlankLineAhead = false;
+        }
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,462 @@
+package seedu.storage;
+
+import seedu.classes.Ui;
+import seedu.classes.WiagiClock;
+import seedu.classes.WiagiLogger;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.EntryList;
+import seedu.type.EntryListHistory;
+import seedu.type.EntryListObserver;
+import seedu.type.EntryType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import static seedu.classes.Constants.STORAGE_LOAD_SEPARATOR;
+import static seedu.classes.Constants.STORAGE_SEPARATOR;
+
+/**
+ * Keeps the entries of past years of an entry list in one segment file per year, in the format of
+ * {@link BinaryLedgerFile}, so that only the text file of the list is loaded at startup. The text file keeps the
+ * entries of the current and later years and every recurring entry, so recurrences are still updated at startup.
+ * It also keeps any entry with a description or tag too long for a segment. The segment of a past year is only
+ * loaded into the list the first time a query needs it.
+ *
+ * <p>A small manifest lists the segment of each year. Segments are written under new names before the manifest,
+ * so the manifest only ever lists complete segments. Until the text file has been rewritten, the manifest marks
+ * the years just written, and if the save is interrupted, the entries of those years that are still in the old
+ * text file and journal are left out when loading, as the segments already hold them.
+ *
+ * <p>This is the observer of the list, passing each change on to the journal of the list and noting the past
+ * years that changed, which are written to their segments by the next save.
+ *
+ * @param <T> The type of entry stored in the list.
+ */
+class YearPartitions<T extends EntryType> implements EntryListObserver<T>, EntryListHistory {
+    static final String SAVING_FLAG = "saving";
+
+    private final String manifestPath;
+    /** The format of the path of a segment, given its year and generation. */
+    private final String segmentPathFormat;
+    private final byte kind;
+    private final EntryFactory<T> factory;
+    private final ListJournal<T> journal;
+    private final String loadErrorMessage;
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private final HashSet<Integer> loadedYears = new HashSet<>();
+    /** Past years whose entries in the list differ from their segments, or that have no segment yet. */
+    private final TreeSet<Integer> changedYears = new TreeSet<>();
+    /** Segments replaced by the last save, which are deleted once the save is finished. */
+    private final ArrayList<Path> replacedSegments = new ArrayList<>();
+    private EntryList<T> list;
+    private int currentYear = WiagiClock.getToday().getYear();
+    private boolean isLoading = false;
+
+    /**
+     * Creates the partitions of a list.
+     *
+     * @param manifestPath The path of the manifest.
+     * @param segmentPathFormat The format of the path of a segment, given its year and generation.
+     * @param kind The kind of entries, {@link BinaryLedgerFile#INCOMES} or {@link BinaryLedgerFile#SPENDINGS}.
+     * @param factory Creates the entries read from the segments.
+     * @param journal The journal to pass the changes of the list on to.
+     * @param loadErrorMessage The message shown if a segment cannot be loaded.
+     */
+    YearPartitions(String manifestPath, String segmentPathFormat, byte kind, EntryFactory<T> factory,
+            ListJournal<T> journal, String loadErrorMessage) {
+        this.manifestPath = manifestPath;
+        this.segmentPathFormat = segmentPathFormat;
+        this.kind = kind;
+        this.factory = factory;
+        this.journal = journal;
+        this.loadErrorMessage = loadErrorMessage;
+    }
+
+    /**
+     * Reads the manifest before the given list is loaded from the text file, with none of its past years loaded.
+     * The entries dated before the current year are kept in the segments from then on.
+     *
+     * @param list The list that the segments are loaded into.
+     * @throws IOException If the manifest cannot be read or is corrupted.
+     */
+    void open(EntryList<T> list) throws IOException {
+        this.list = list;
+        currentYear = WiagiClock.getToday().getYear();
+        segments.clear();
+        loadedYears.clear();
+        changedYears.clear();
+        replacedSegments.clear();
+        File manifestFile = new File(manifestPath);
+        if (!manifestFile.exists()) {
+            return;
+        }
+        try (StorageReader manifestReader = new StorageReader(manifestFile)) {
+            while (manifestReader.hasNext()) {
+                String line = manifestReader.nextLine();
+                String[] fields = line.split(STORAGE_LOAD_SEPARATOR);
+                try {
+                    boolean isSaving = fields.length == 4 && fields[3].equals(SAVING_FLAG);
+                    if (fields.length != 3 && !isSaving) {
+                        throw new IOException("Corrupted line in " + manifestPath + ": " + line);
+                    }
+                    segments.put(Integer.parseInt(fields[0]),
+                            new Segment(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]), isSaving));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Corrupted line in " + manifestPath + ": " + line, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes these partitions the observer and history of the given list, once it has been loaded.
+     *
+     * @param list The loaded list, which is the list given to {@link #open(EntryList)} unless it was replaced.
+     */
+    void attach(EntryList<T> list) {
+        this.list = list;
+        list.setObserver(this);
+        list.setHistory(this);
+    }
+
+    /**
+     * Returns the entries read from the text file that are to be added to the list. Entries of past years that an
+     * interrupted save already wrote to their segments are left out. The other entries of past years are moved to
+     * segments by the next save.
+     *
+     * @param entries The entries read from the text file.
+     * @return The entries to add to the list.
+     */
+    ArrayList<T> removeSavedEntries(ArrayList<T> entries) {
+        ArrayList<T> unsavedEntries = new ArrayList<>(entries.size());
+        for (T entry : entries) {
+            if (isSaved(entry)) {
+                continue;
+            }
+            markChanged(entry);
+            unsavedEntries.add(entry);
+        }
+        if (unsavedEntries.size() < entries.size()) {
+            WiagiLogger.logger.log(Level.WARNING, "Left out " + (entries.size() - unsavedEntries.size())
+                    + " entries already moved to segments by an interrupted save");
+        }
+        return unsavedEntries;
+    }
+
+    /**
+     * Returns true if the entry is of a past year that an interrupted save already wrote to its segment, so a
+     * change to it recorded in the journal is already in the segment.
+     *
+     * @param entry The entry to check.
+     * @return True if the segment of the entry's year holds its latest entries.
+     */
+    boolean isSaved(T entry) {
+        Segment segment = isOfPastYear(entry) ? segments.get(entry.getDate().getYear()) : null;
+        return segment != null && segment.isSaving;
+    }
+
+    /**
+     * Returns true if the manifest marks years written by a save that was interrupted before it finished. The
+     * list should then be saved once it is loaded, so that new changes to those years are not left out.
+     */
+    boolean hasInterruptedSave() {
+        return segments.values().stream().anyMatch(segment -> segment.isSaving);
+    }
+
+    /**
+     * Loads the segment of the entry's year if it is of a past year that is not loaded yet, before the entry is
+     * looked for in the list.
+     *
+     * @param entry The entry to be looked for.
+     */
+    void loadYearOf(T entry) {
+        int year = entry.getDate().getYear();
+        if (isOfPastYear(entry) && segments.containsKey(year) && !loadedYears.contains(year)) {
+            load(List.of(year));
+        }
+    }
+
+    /**
+     * Notes a change to the list that is not passed on by the list, such as one replayed from the journal.
+     *
+     * @param entry The entry that was added or removed.
+     */
+    void markChanged(T entry) {
+        if (isOfPastYear(entry)) {
+            changedYears.add(entry.getDate().getYear());
+        }
+    }
+
+    @Override
+    public void entryAdded(T entry) {
+        if (isLoading) {
+            return;
+        }
+        markChanged(entry);
+        journal.entryAdded(entry);
+    }
+
+    @Override
+    public void entryRemoved(T entry) {
+        if (isLoading) {
+            return;
+        }
+        markChanged(entry);
+        journal.entryRemoved(entry);
+    }
+
+    @Override
+    public void loadFrom(LocalDate date) {
+        ArrayList<Integer> years = new ArrayList<>();
+        for (int year : segments.tailMap(date.getYear()).keySet()) {
+            if (!loadedYears.contains(year)) {
+                years.add(year);
+            }
+        }
+        load(years);
+    }
+
+    @Override
+    public int countNotLoaded() {
+        int count = 0;
+        for (Map.Entry<Integer, Segment> segment : segments.entrySet()) {
+            if (!loadedYears.contains(segment.getKey())) {
+                count += segment.getValue().recordCount;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public LocalDate findLatestNotLoaded() {
+        for (int year : segments.descendingKeySet()) {
+            if (!loadedYears.contains(year)) {
+                return LocalDate.of(year, 1, 1);
+            }
+        }
+        return null;
+    }
+
+    private void load(List<Integer> years) {
+        if (years.isEmpty()) {
+            return;
+        }
+        ArrayList<T> entries = new ArrayList<>();
+        for (int year : years) {
+            Path segmentPath = getSegmentPath(year, segments.get(year).generation);
+            WiagiLogger.logger.log(Level.INFO, "Loading " + segmentPath);
+            try {
+                ParsedStorageFile<T> segment = BinaryLedgerFile.read(segmentPath, kind, factory);
+                for (ParsedStorageFile.CorruptedLine corruptedLine : segment.getCorruptedLines()) {
+                    WiagiLogger.logger.log(Level.WARNING, "Corrupted entry found in " + segmentPath + " at record "
+                            + corruptedLine.lineNumber, corruptedLine.error);
+                    Ui.handleCorruptedEntry(corruptedLine.error, corruptedLine.lineNumber,
+                            segmentPath.toString());
+                }
+                entries.addAll(segment.getEntries());
+                loadedYears.add(year);
+            } catch (IOException e) {
+                WiagiLogger.logger.log(Level.WARNING, "Unable to load " + segmentPath, e);
+                Ui.printWithTab(loadErrorMessage);
+            }
+        }
+        isLoading = true;
+        try {
+            list.addAll(entries);
+        } finally {
+            isLoading = false;
+        }
+    }
+
+    /**
+     * Returns true if entries of past years are waiting to be moved to segments, so the list should be saved in
+     * full even if its journal is not due for compaction.
+     */
+    boolean isSaveDue() {
+        for (int year : changedYears) {
+            if (!segments.containsKey(year) || loadedYears.contains(year)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the segments of the past years of the list that changed since they were last saved, then the
+     * manifest, which marks the years written until {@link #finishSave()} is called after the text file is
+     * written. Entries of a past year whose segment is not loaded stay in the text file until it is loaded.
+     *
+     * @param entries The list to save.
+     * @return The entries to write to the text file, in date order.
+     * @throws IOException If a segment or the manifest cannot be written. The text file must not be written then.
+     */
+    ArrayList<T> saveSegments(EntryList<T> entries) throws IOException {
+        int end = entries.findFirstIndexFrom(LocalDate.of(currentYear, 1, 1));
+        if (end == 0 && changedYears.isEmpty()) {
+            return new ArrayList<>(entries);
+        }
+        TreeMap<Integer, ArrayList<T>> entriesByYear = new TreeMap<>();
+        for (int i = 0; i < end; i++) {
+            T entry = entries.get(i);
+            if (!isKeptInText(entry)) {
+                entriesByYear.computeIfAbsent(entry.getDate().getYear(), year -> new ArrayList<>()).add(entry);
+            }
+        }
+        TreeSet<Integer> years = new TreeSet<>(changedYears);
+        years.addAll(entriesByYear.keySet());
+        HashSet<Integer> keptYears = new HashSet<>();
+        TreeMap<Integer, Segment> savedSegments = new TreeMap<>(segments);
+        ArrayList<Path> replaced = new ArrayList<>();
+        for (int year : years) {
+            Segment segment = segments.get(year);
+            ArrayList<T> yearEntries = entriesByYear.get(year);
+            if (segment != null && !loadedYears.contains(year)) {
+                keptYears.add(year);
+                continue;
+            } else if (segment != null && !changedYears.contains(year)) {
+                continue;
+            }
+            if (segment != null) {
+                replaced.add(getSegmentPath(year, segment.generation));
+                savedSegments.remove(year);
+            }
+            if (yearEntries != null) {
+                int generation = segment == null ? 0 : segment.generation + 1;
+                BinaryLedgerFile.write(getSegmentPath(year, generation), kind, null, yearEntries);
+                savedSegments.put(year, new Segment(generation, yearEntries.size(), true));
+            }
+        }
+        if (!savedSegments.equals(segments)) {
+            writeManifest(savedSegments);
+            segments.clear();
+            segments.putAll(savedSegments);
+            replacedSegments.addAll(replaced);
+        }
+        loadedYears.addAll(entriesByYear.keySet());
+        loadedYears.removeAll(keptYears);
+
+        ArrayList<T> textEntries = new ArrayList<>(entries.size() - end);
+        for (int i = 0; i < end; i++) {
+            T entry = entries.get(i);
+            if (isKeptInText(entry) || keptYears.contains(entry.getDate().getYear())) {
+                textEntries.add(entry);
+            }
+        }
+        textEntries.addAll(entries.subList(end, entries.size()));
+        return textEntries;
+    }
+
+    /**
+     * Clears the marks of the manifest and deletes the replaced segments, after the text file is written.
+     *
+     * @throws IOException If the manifest cannot be written.
+     */
+    void finishSave() throws IOException {
+        changedYears.removeIf(year -> !segments.containsKey(year) || loadedYears.contains(year));
+        if (replacedSegments.isEmpty() && !hasInterruptedSave()) {
+            return;
+        }
+        segments.replaceAll((year, segment) -> new Segment(segment.generation, segment.recordCount, false));
+        writeManifest(segments);
+        for (Path replacedSegment : replacedSegments) {
+            replacedSegment.toFile().delete();
+        }
+        replacedSegments.clear();
+    }
+
+    /**
+     * Deletes the manifest and every segment, when all data is reset.
+     */
+    void clear() {
+        for (Map.Entry<Integer, Segment> segment : segments.entrySet()) {
+            getSegmentPath(segment.getKey(), segment.getValue().generation).toFile().delete();
+        }
+        new File(manifestPath).delete();
+        segments.clear();
+        loadedYears.clear();
+        changedYears.clear();
+        replacedSegments.clear();
+    }
+
+    private void writeManifest(TreeMap<Integer, Segment> manifest) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (Map.Entry<Integer, Segment> segment : manifest.entrySet()) {
+            lines.append(segment.getKey()).append(STORAGE_SEPARATOR).append(segment.getValue().generation)
+                    .append(STORAGE_SEPARATOR).append(segment.getValue().recordCount);
+            if (segment.getValue().isSaving) {
+                lines.append(STORAGE_SEPARATOR).append(SAVING_FLAG);
+            }
+            lines.append(System.lineSeparator());
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(Charset.defaultCharset()));
+        AtomicFileWriter.replace(Paths.get(manifestPath), channel -> {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        });
+    }
+
+    private Path getSegmentPath(int year, int generation) {
+        return Paths.get(String.format(segmentPathFormat, year, generation));
+    }
+
+    private boolean isOfPastYear(T entry) {
+        return !isKeptInText(entry) && entry.getDate().getYear() < currentYear;
+    }
+
+    /**
+     * Returns true if the entry stays in the text file whatever its year, as it recurs or cannot be stored in a
+     * segment.
+     */
+    private static boolean isKeptInText(EntryType entry) {
+        return isRecurring(entry) || !BinaryLedgerFile.canWrite(entry);
+    }
+
+    private static boolean isRecurring(EntryType entry) {
+        RecurrenceFrequency recurrenceFrequency = entry.getRecurrenceFrequency();
+        return recurrenceFrequency != null && recurrenceFrequency != RecurrenceFrequency.NONE;
+    }
+
+    /**
+     * The segment of a year, as listed in the manifest.
+     */
+    private static class Segment {
+        private final int generation;
+        private final int recordCount;
+        /** True while the text file may still hold the entries of this segment, after a save wrote it. */
+        private final boolean isSaving;
+
+        private Segment(int generation, int recordCount, boolean isSaving) {
+            this.generation = generation;
+            this.recordCount = recordCount;
+            this.isSaving = isSaving;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Segment)) {
+                return false;
+            }
+            Segment segment = (Segment) other;
+            return generation == segment.generation && recordCount == segment.recordCount
+                    && isSaving == segment.isSaving;
+        }
+
+        @Override
+        public int hashCode() {
+            return (generation * 31 + recordCount) * 2 + (isSaving ? 1 : 0);
+        }
+    }
+}
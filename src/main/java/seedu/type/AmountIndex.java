@@ -0,0 +1,122 @@
+package seedu.type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Keeps the entries of an {@link EntryList} sorted by amount, so that the entries with an amount in a range can
+ * be found by binary search without scanning the whole list.
+ *
+ * <p>The index is sorted the first time it is searched. From then on, each entry added or removed is inserted
+ * into or removed from the sorted arrays in place, until a change to many entries at once discards the index,
+ * which is then sorted again by the next search.
+ *
+ * @param <T> The type of entry indexed.
+ */
+class AmountIndex<T extends EntryType> {
+    /** The amounts in cents of the entries at {@link #entries}, in ascending order, or null if not sorted. */
+    private long[] sortedCents;
+    private Object[] entries;
+    private int size;
+
+    void add(T entry) {
+        if (sortedCents == null) {
+            return;
+        }
+        if (size == sortedCents.length) {
+            int capacity = Math.max(16, size + (size >> 1));
+            sortedCents = Arrays.copyOf(sortedCents, capacity);
+            entries = Arrays.copyOf(entries, capacity);
+        }
+        long cents = entry.getAmountInCents();
+        int position = findFirstPosition(cents, true);
+        System.arraycopy(sortedCents, position, sortedCents, position + 1, size - position);
+        System.arraycopy(entries, position, entries, position + 1, size - position);
+        sortedCents[position] = cents;
+        entries[position] = entry;
+        size++;
+    }
+
+    void remove(T entry) {
+        if (sortedCents == null) {
+            return;
+        }
+        long cents = entry.getAmountInCents();
+        for (int i = findFirstPosition(cents, false); i < size && sortedCents[i] == cents; i++) {
+            if (entries[i] == entry) {
+                System.arraycopy(sortedCents, i + 1, sortedCents, i, size - i - 1);
+                System.arraycopy(entries, i + 1, entries, i, size - i - 1);
+                size--;
+                entries[size] = null;
+                return;
+            }
+        }
+        clear();
+    }
+
+    /**
+     * Discards the index before many entries are changed at once, so that it is sorted again when next searched
+     * instead of being updated once per entry.
+     */
+    void clear() {
+        sortedCents = null;
+        entries = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the entries with an amount from the lower to the upper amount inclusive, sorting the given entries
+     * by amount first if the index has been discarded.
+     *
+     * @param lowerCents The smallest amount to include, in cents.
+     * @param upperCents The largest amount to include, in cents.
+     * @param allEntries All entries of the list, which are only read if the index has to be sorted.
+     * @return The matching entries, in order of amount.
+     */
+    @SuppressWarnings("unchecked")
+    ArrayList<T> getEntriesBetween(long lowerCents, long upperCents, Collection<T> allEntries) {
+        if (sortedCents == null) {
+            sort(allEntries);
+        }
+        int fromPosition = findFirstPosition(lowerCents, false);
+        int toPosition = findFirstPosition(upperCents, true);
+        ArrayList<T> matches = new ArrayList<>(Math.max(toPosition - fromPosition, 0));
+        for (int i = fromPosition; i < toPosition; i++) {
+            matches.add((T) entries[i]);
+        }
+        return matches;
+    }
+
+    private void sort(Collection<T> allEntries) {
+        Object[] sortedEntries = allEntries.toArray();
+        Arrays.sort(sortedEntries, Comparator.comparingLong(entry -> ((EntryType) entry).getAmountInCents()));
+        long[] cents = new long[sortedEntries.length];
+        for (int i = 0; i < sortedEntries.length; i++) {
+            cents[i] = ((EntryType) sortedEntries[i]).getAmountInCents();
+        }
+        entries = sortedEntries;
+        sortedCents = cents;
+        size = sortedEntries.length;
+    }
+
+    /**
+     * Returns the first position in the index with an amount above the given amount if {@code isUpperBound} is
+     * true, or with an amount at or above it otherwise.
+     */
+    private int findFirstPosition(long cents, boolean isUpperBound) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            boolean isBefore = isUpperBound ? sortedCents[mid] <= cents : sortedCents[mid] < cents;
+            if (isBefore) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.type;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Keeps the entries of an {@link EntryList} indexed by every three-character sequence in their description,
+ * so that entries whose description contains some text can be found without scanning the whole list.
+ *
+ * @param <T> The type of entry indexed.
+ */
+class DescriptionIndex<T extends EntryType> {
+    static final int GRAM_LENGTH = 3;
+
+    private final HashMap<Long, HashSet<T>> entriesByGram = new HashMap<>();
+
+    void add(T entry) {
+        String description = entry.getDescription();
+        for (int i = 0; i + GRAM_LENGTH <= description.length(); i++) {
+            entriesByGram.computeIfAbsent(getGram(description, i), gram -> new HashSet<>()).add(entry);
+        }
+    }
+
+    void remove(T entry) {
+        String description = entry.getDescription();
+        for (int i = 0; i + GRAM_LENGTH <= description.length(); i++) {
+            long gram = getGram(description, i);
+            HashSet<T> entries = entriesByGram.get(gram);
+            if (entries != null) {
+                entries.remove(entry);
+                if (entries.isEmpty()) {
+                    entriesByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the entries that share every three-character sequence of the given text, which include all
+     * entries whose description contains the text. Only the postings of the rarest sequence are returned, as
+     * sharing every sequence still does not guarantee that the text appears in one piece.
+     *
+     * @param text The text to look for, which must be at least {@value #GRAM_LENGTH} characters long.
+     * @return A read-only view of the candidate entries, in no particular order.
+     */
+    Set<T> findCandidates(String text) {
+        assert text.length() >= GRAM_LENGTH : "Text should be long enough to be looked up in the index";
+        HashSet<T> rarest = null;
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            HashSet<T> entries = entriesByGram.get(getGram(text, i));
+            if (entries == null) {
+                return Collections.emptySet();
+            }
+            if (rarest == null || entries.size() < rarest.size()) {
+                rarest = entries;
+            }
+        }
+        return Collections.unmodifiableSet(rarest);
+    }
+
+    private static long getGram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+}
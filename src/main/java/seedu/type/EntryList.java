@@ -0,0 +1,723 @@
+package seedu.type;
+
+import seedu.classes.Money;
+import seedu.classes.Parser;
+import seedu.classes.WiagiClock;
+import seedu.recurrence.Recurrence;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Represents a list of entries that is always kept sorted by date.
+ * Entries with the same date keep the order in which they were added, and entries are also indexed by tag,
+ * description and amount. Each entry can also be looked up by its id, and removing an entry leaves a tombstone
+ * that is compacted later instead of shifting every later entry, as described in {@link EntrySlots}.
+ * Subclasses and an optional {@link EntryListObserver} are notified of every entry that enters or leaves
+ * the list, so that derived data such as totals or journals can be maintained incrementally.
+ *
+ * @param <T> The type of entry stored in the list.
+ */
+public abstract class EntryList<T extends EntryType> extends AbstractList<T> implements RandomAccess {
+    private static final Comparator<EntryType> DATE_ORDER = Comparator.comparing(EntryType::getDate);
+    /** Index lookups that leave more than 1 in this many entries to check fall back to a scan. */
+    private static final int SCAN_FRACTION = 32;
+    private static final AtomicLong NEXT_VERSION = new AtomicLong();
+
+    private final EntrySlots<T> slots = new EntrySlots<>();
+    private final TagIndex<T> tagIndex = new TagIndex<>();
+    private final DescriptionIndex<T> descriptionIndex = new DescriptionIndex<>();
+    private final AmountIndex<T> amountIndex = new AmountIndex<>();
+    private final RecurrenceScheduler<T> recurrenceScheduler = new RecurrenceScheduler<>();
+    private EntryListObserver<? super T> observer;
+    private EntryListHistory history;
+    private boolean isRecurrenceVirtual = false;
+    private volatile long version = NEXT_VERSION.incrementAndGet();
+
+    public EntryList() {
+        super();
+    }
+
+    /**
+     * Inserts the entry at its position in date order, after any entries with the same date.
+     *
+     * @param entry The entry to add.
+     * @return Always true, as the list always accepts the entry.
+     */
+    @Override
+    public boolean add(T entry) {
+        slots.add(entry);
+        modCount++;
+        notifyAdded(entry);
+        return true;
+    }
+
+    /**
+     * Adds all given entries by sorting them by date and merging them into the list in a single pass.
+     * Given entries come after entries already in the list with the same date, and keep their relative order.
+     *
+     * @param entries The entries to add.
+     * @return True if the list changed.
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> entries) {
+        if (entries.isEmpty()) {
+            return false;
+        }
+        if (entries.size() == 1) {
+            return add(entries.iterator().next());
+        }
+        ArrayList<T> newEntries = new ArrayList<>(entries);
+        newEntries.sort(DATE_ORDER);
+        ArrayList<T> oldEntries = new ArrayList<>(this);
+        ArrayList<T> merged = new ArrayList<>(oldEntries.size() + newEntries.size());
+        int index = 0;
+        for (T newEntry : newEntries) {
+            while (index < oldEntries.size() && !oldEntries.get(index).getDate().isAfter(newEntry.getDate())) {
+                merged.add(oldEntries.get(index++));
+            }
+            merged.add(newEntry);
+        }
+        merged.addAll(oldEntries.subList(index, oldEntries.size()));
+        slots.setAll(merged);
+        modCount++;
+        amountIndex.clear();
+        for (T entry : newEntries) {
+            notifyAdded(entry);
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    @Override
+    public T get(int index) {
+        return slots.get(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        return removeSlot(slots.toSlot(index));
+    }
+
+    /**
+     * Removes the given entry, found by binary search on its date.
+     *
+     * @param entry The entry to remove.
+     * @return True if the entry was in this list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object entry) {
+        if (!(entry instanceof EntryType)) {
+            return false;
+        }
+        int slot = slots.findSlot((T) entry);
+        if (slot < 0) {
+            return false;
+        }
+        removeSlot(slot);
+        return true;
+    }
+
+    /**
+     * Removes the entry with the given id.
+     *
+     * @param id The id of the entry.
+     * @return The removed entry, or null if there is no entry with that id in this list.
+     */
+    public T removeById(long id) {
+        T entry = slots.findById(id);
+        return entry == null ? null : removeSlot(slots.findSlot(entry));
+    }
+
+    /**
+     * Returns the entry with the given id.
+     *
+     * @param id The id of the entry.
+     * @return The entry, or null if there is no entry with that id in this list.
+     */
+    public T findById(long id) {
+        return slots.findById(id);
+    }
+
+    private T removeSlot(int slot) {
+        T removedEntry = slots.remove(slot);
+        modCount++;
+        notifyRemoved(removedEntry);
+        return removedEntry;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        amountIndex.clear();
+        ArrayList<T> keptEntries = new ArrayList<>(this.size());
+        for (T entry : this) {
+            if (filter.test(entry)) {
+                notifyRemoved(entry);
+            } else {
+                keptEntries.add(entry);
+            }
+        }
+        if (keptEntries.size() == this.size()) {
+            return false;
+        }
+        slots.setAll(keptEntries);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> entries) {
+        return removeIf(entries::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> entries) {
+        return removeIf(entry -> !entries.contains(entry));
+    }
+
+    @Override
+    public T set(int index, T entry) {
+        T replacedEntry = slots.set(slots.toSlot(index), entry);
+        notifyRemoved(replacedEntry);
+        notifyAdded(entry);
+        return replacedEntry;
+    }
+
+    @Override
+    public void clear() {
+        amountIndex.clear();
+        for (T entry : this) {
+            notifyRemoved(entry);
+        }
+        slots.clear();
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the entries in list order, which steps over the tombstones of removed entries.
+     * The iterator does not support removal.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final int expectedModCount = modCount;
+            private int nextSlot = slots.findLiveSlotFrom(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextSlot < slots.getSlotCount();
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T entry = slots.getEntry(nextSlot);
+                nextSlot = slots.findLiveSlotFrom(nextSlot + 1);
+                return entry;
+            }
+        };
+    }
+
+    /**
+     * Applies an edit to an entry in this list, keeping any derived data of the list up to date.
+     * If the edit changes the date of the entry, the entry is moved to its new place in date order, after the
+     * other entries with the same date. Only the entries between its old and new place are moved.
+     *
+     * @param entry The entry to edit, which must be in this list.
+     * @param edit The change to apply to the entry.
+     */
+    public void editEntry(T entry, Consumer<? super T> edit) {
+        LocalDate oldDate = entry.getDate();
+        int slot = slots.findSlot(entry);
+        notifyRemoved(entry);
+        try {
+            edit.accept(entry);
+        } finally {
+            if (!entry.getDate().equals(oldDate)) {
+                slots.moveToDateOrder(slot, entry.getDate().isAfter(oldDate));
+            }
+            notifyAdded(entry);
+        }
+    }
+
+    /**
+     * Called after an entry has been added to this list, or after an edit to it has been applied.
+     *
+     * @param entry The entry that was added.
+     */
+    protected void entryAdded(T entry) {
+    }
+
+    /**
+     * Called after an entry has been removed from this list, or before an edit to it is applied.
+     *
+     * @param entry The entry that was removed.
+     */
+    protected void entryRemoved(T entry) {
+    }
+
+    /**
+     * Returns the version stamp of this list. The stamp changes whenever an entry is added, removed or edited,
+     * or other saved data of the list changes, and no two lists share a stamp.
+     *
+     * @return The version stamp.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gives this list a new version stamp, after a change to data of the list other than its entries.
+     */
+    protected void markChanged() {
+        version = NEXT_VERSION.incrementAndGet();
+    }
+
+    /**
+     * Sets the observer to be notified of changes to this list, replacing any previous observer.
+     *
+     * @param observer The observer to notify, or null to stop notifying.
+     */
+    public void setObserver(EntryListObserver<? super T> observer) {
+        this.observer = observer;
+    }
+
+    /**
+     * Sets where the entries of this list that are kept in storage until they are needed are loaded from,
+     * replacing any previous history.
+     *
+     * @param history The history to load entries from, or null if all entries are always in this list.
+     */
+    public void setHistory(EntryListHistory history) {
+        this.history = history;
+    }
+
+    /**
+     * Loads all entries of this list that are kept in storage, before a query that looks at every entry.
+     */
+    public void loadHistory() {
+        loadHistoryFrom(LocalDate.MIN);
+    }
+
+    /**
+     * Loads the entries of this list that are kept in storage and dated on or after the given date, before a
+     * query that looks at the entries from that date on. The entries left in storage are all dated before the
+     * year of the given date, so they come before every entry from that date on when all entries are listed.
+     *
+     * @param date The earliest date of the entries needed.
+     * @return The number of entries left in storage, which is added to the index of an entry dated on or after
+     *     the given date to give its position among all entries.
+     */
+    public int loadHistoryFrom(LocalDate date) {
+        if (history == null) {
+            return 0;
+        }
+        history.loadFrom(date);
+        return history.countNotLoaded();
+    }
+
+    private int countHistoryNotLoaded() {
+        return history == null ? 0 : history.countNotLoaded();
+    }
+
+    private void notifyAdded(T entry) {
+        markChanged();
+        amountIndex.add(entry);
+        recurrenceScheduler.add(entry);
+        tagIndex.add(entry);
+        descriptionIndex.add(entry);
+        entryAdded(entry);
+        if (observer != null) {
+            observer.entryAdded(entry);
+        }
+    }
+
+    private void notifyRemoved(T entry) {
+        markChanged();
+        amountIndex.remove(entry);
+        recurrenceScheduler.remove(entry);
+        tagIndex.remove(entry);
+        descriptionIndex.remove(entry);
+        entryRemoved(entry);
+        if (observer != null) {
+            observer.entryRemoved(entry);
+        }
+    }
+
+    /**
+     * Returns the index of the first entry dated on or after the given date.
+     *
+     * @param date The date to search for.
+     * @return The index of the first such entry, or the size of the list if there is none.
+     */
+    public int findFirstIndexFrom(LocalDate date) {
+        return slots.toIndex(slots.findFirstSlotFrom(date, 0, slots.getSlotCount()));
+    }
+
+    /**
+     * Returns the index of the first entry dated after the given date.
+     *
+     * @param date The date to search for.
+     * @return The index of the first such entry, or the size of the list if there is none.
+     */
+    public int findFirstIndexAfter(LocalDate date) {
+        return slots.toIndex(slots.findFirstSlotAfter(date, 0, slots.getSlotCount()));
+    }
+
+    /**
+     * Returns the entries dated from the start date to the end date inclusive, in list order.
+     * The range is found by binary search, so only the matching entries are visited.
+     *
+     * @param start The earliest date to include.
+     * @param end The latest date to include.
+     * @return The matching entries with their indexes, which is empty if the start date is after the end date.
+     */
+    public ArrayList<IndexedEntry<T>> getEntriesBetween(LocalDate start, LocalDate end) {
+        if (hasVirtualOccurrences()) {
+            return findInOccurrences(entry -> !entry.getDate().isBefore(start) && !entry.getDate().isAfter(end));
+        }
+        int fromSlot = slots.findFirstSlotFrom(start, 0, slots.getSlotCount());
+        int toSlot = slots.findFirstSlotAfter(end, fromSlot, slots.getSlotCount());
+        ArrayList<IndexedEntry<T>> matches = new ArrayList<>();
+        int index = slots.toIndex(fromSlot);
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            if (!slots.isTombstone(slot)) {
+                matches.add(new IndexedEntry<>(index++, slots.getEntry(slot)));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the index of the given entry in this list, found by binary search on its date.
+     *
+     * @param entry The entry to look for.
+     * @return The index of the entry, or -1 if it is not in this list.
+     */
+    public int findIndexOf(T entry) {
+        int slot = slots.findSlot(entry);
+        return slot < 0 ? -1 : slots.toIndex(slot);
+    }
+
+    /**
+     * Returns the tags of the entries in this list.
+     *
+     * @return A read-only view of the tags, in no particular order.
+     */
+    public Set<String> getTags() {
+        return tagIndex.getTags();
+    }
+
+    /**
+     * Returns the entries with the given tag, in list order.
+     *
+     * @param tag The tag to look for.
+     * @return The matching entries with their indexes, which is empty if no entry has the tag.
+     */
+    public ArrayList<IndexedEntry<T>> findWithTag(String tag) {
+        if (hasVirtualOccurrences()) {
+            return findInOccurrences(entry -> tag.equals(entry.getTag()));
+        }
+        return toIndexedEntries(findSortedIndexes(tagIndex.getEntries(tag)));
+    }
+
+    /**
+     * Returns the entries whose description contains the given text, in list order.
+     * Text of at least three characters is looked up in the description index. The list is scanned instead
+     * if the text is shorter, or if the index narrows the search to a large part of the list anyway.
+     *
+     * @param text The text to look for.
+     * @return The matching entries with their indexes.
+     */
+    public ArrayList<IndexedEntry<T>> findByDescription(String text) {
+        if (hasVirtualOccurrences()) {
+            return findInOccurrences(entry -> entry.getDescription().contains(text));
+        }
+        if (text.length() >= DescriptionIndex.GRAM_LENGTH) {
+            Set<T> candidates = descriptionIndex.findCandidates(text);
+            if (candidates.size() <= this.size() / SCAN_FRACTION) {
+                ArrayList<T> matches = new ArrayList<>();
+                for (T entry : candidates) {
+                    if (entry.getDescription().contains(text)) {
+                        matches.add(entry);
+                    }
+                }
+                return toIndexedEntries(findSortedIndexes(matches));
+            }
+        }
+        ArrayList<IndexedEntry<T>> matches = new ArrayList<>();
+        int index = 0;
+        for (T entry : this) {
+            if (entry.getDescription().contains(text)) {
+                matches.add(new IndexedEntry<>(index, entry));
+            }
+            index++;
+        }
+        return matches;
+    }
+
+    private ArrayList<IndexedEntry<T>> toIndexedEntries(int[] indexes) {
+        ArrayList<IndexedEntry<T>> indexedEntries = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            indexedEntries.add(new IndexedEntry<>(index, this.get(index)));
+        }
+        return indexedEntries;
+    }
+
+    /**
+     * Returns the indexes of the given entries of this list, in ascending order.
+     */
+    private int[] findSortedIndexes(Collection<T> entries) {
+        int[] indexes = new int[entries.size()];
+        int count = 0;
+        for (T entry : entries) {
+            indexes[count++] = findIndexOf(entry);
+        }
+        Arrays.sort(indexes);
+        return indexes;
+    }
+
+    /**
+     * Returns the entries with an amount from the lower to the upper amount inclusive, in list order.
+     * The entries are found by binary search over an amount-sorted index, which is kept up to date as single
+     * entries are added and removed, and is only sorted again after many entries are changed at once.
+     *
+     * @param lower The smallest amount to include.
+     * @param upper The largest amount to include.
+     * @return The matching entries with their indexes.
+     */
+    public ArrayList<IndexedEntry<T>> getEntriesWithAmountBetween(double lower, double upper) {
+        if (hasVirtualOccurrences()) {
+            return findInOccurrences(entry -> entry.getAmount() >= lower && entry.getAmount() <= upper);
+        }
+        return toIndexedEntries(findSortedIndexes(
+                amountIndex.getEntriesBetween(Money.toCents(lower), Money.toCents(upper), this)));
+    }
+
+    /**
+     * Sets whether recurring entries in this list are expanded virtually. Virtual recurrences that are due are
+     * not stored in the list, but are generated when the list is shown or searched, and are only stored when
+     * one of them is edited or deleted.
+     *
+     * @param isRecurrenceVirtual True to expand recurring entries virtually.
+     */
+    public void setRecurrenceVirtual(boolean isRecurrenceVirtual) {
+        this.isRecurrenceVirtual = isRecurrenceVirtual;
+    }
+
+    public boolean isRecurrenceVirtual() {
+        return isRecurrenceVirtual;
+    }
+
+    /**
+     * Returns a new entry that recurs from the given recurring entry on the given date.
+     *
+     * @param recurringEntry The recurring entry in this list.
+     * @param date The date of the recurrence.
+     * @return The new entry, which is not added to this list.
+     */
+    public abstract T createOccurrence(T recurringEntry, LocalDate date);
+
+    /**
+     * Returns the entries of this list together with the virtual recurrences that are due, in date order.
+     * Entries stored in the list come before virtual recurrences on the same date.
+     *
+     * @return This list itself if there are no virtual recurrences, otherwise a new list.
+     */
+    public List<T> getEntriesWithOccurrences() {
+        if (!hasVirtualOccurrences()) {
+            return this;
+        }
+        return buildOccurrenceView(WiagiClock.getToday(), null);
+    }
+
+    /**
+     * Returns the id of the entry shown at the given index of {@link #getEntriesWithOccurrences()}, so that the
+     * entry can be edited or removed through its id. If that entry is a virtual recurrence, it is stored first,
+     * together with the earlier virtual recurrences of the same recurring entry.
+     *
+     * <p>The index counts the entries kept in storage too, as the entries are numbered when all are listed. Only
+     * the years of storage from the year of the entry on are loaded, as the entries left in storage then all come
+     * before it. If the index points into the entries left in storage, their latest years are loaded one at a time
+     * until it does not.
+     *
+     * @param index The index of the entry as shown to the user, starting from 0.
+     * @return The id of the entry.
+     * @throws IndexOutOfBoundsException If there is no entry at the given index.
+     */
+    public long toEntryId(int index) {
+        int notLoadedCount = countHistoryNotLoaded();
+        while (index < notLoadedCount) {
+            int stillNotLoadedCount = loadHistoryFrom(history.findLatestNotLoaded());
+            if (stillNotLoadedCount == notLoadedCount) {
+                break;
+            }
+            notLoadedCount = stillNotLoadedCount;
+        }
+        LocalDate today = WiagiClock.getToday();
+        IdentityHashMap<T, Occurrence<T>> occurrences = new IdentityHashMap<>();
+        while (true) {
+            occurrences.clear();
+            List<T> entries = hasVirtualOccurrences() ? buildOccurrenceView(today, occurrences) : this;
+            T entry = entries.get(index - notLoadedCount);
+            int stillNotLoadedCount = loadHistoryFrom(entry.getDate());
+            if (stillNotLoadedCount != notLoadedCount) {
+                notLoadedCount = stillNotLoadedCount;
+                continue;
+            }
+            Occurrence<T> occurrence = occurrences.get(entry);
+            if (occurrence != null) {
+                entry = storeOccurrencesUntil(occurrence, today);
+            }
+            return entry.getId();
+        }
+    }
+
+    /**
+     * Returns the total amount in cents of the virtual recurrences that are due and dated from the start date to
+     * the end date inclusive, counted from each recurring entry without creating the recurrences.
+     */
+    protected long getOccurrenceTotalInCents(LocalDate start, LocalDate end) {
+        if (!hasVirtualOccurrences()) {
+            return 0;
+        }
+        LocalDate today = WiagiClock.getToday();
+        long totalCents = 0;
+        for (T recurringEntry : recurrenceScheduler.getRecurringEntries()) {
+            Recurrence recurrence = Parser.parseRecurrence(recurringEntry);
+            long count = recurrence.countDueOccurrences(recurringEntry, start, end, today);
+            totalCents += count * recurringEntry.getAmountInCents();
+        }
+        return totalCents;
+    }
+
+    /**
+     * Returns the recurring entries with a recurrence checked on or before the given date. They are taken off the
+     * recurrence schedule until their last recurrence is updated.
+     *
+     * @param today The current date.
+     * @return The due recurring entries, in the order their recurrences are due.
+     */
+    protected ArrayList<T> pollDueRecurringEntries(LocalDate today) {
+        return recurrenceScheduler.pollDue(today);
+    }
+
+    private boolean hasVirtualOccurrences() {
+        return isRecurrenceVirtual && !recurrenceScheduler.getRecurringEntries().isEmpty();
+    }
+
+    private ArrayList<IndexedEntry<T>> findInOccurrences(Predicate<? super T> filter) {
+        List<T> entries = getEntriesWithOccurrences();
+        ArrayList<IndexedEntry<T>> matches = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (filter.test(entries.get(i))) {
+                matches.add(new IndexedEntry<>(i, entries.get(i)));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Merges the virtual recurrences that are due by today into a copy of this list.
+     *
+     * @param occurrencesByEntry Map to fill with the recurrence of each virtual entry, or null if not needed.
+     */
+    private ArrayList<T> buildOccurrenceView(LocalDate today, IdentityHashMap<T, Occurrence<T>> occurrencesByEntry) {
+        ArrayList<Occurrence<T>> occurrences = new ArrayList<>();
+        for (int index : findSortedIndexes(recurrenceScheduler.getRecurringEntries())) {
+            T recurringEntry = this.get(index);
+            Recurrence recurrence = Parser.parseRecurrence(recurringEntry);
+            for (LocalDate checkDate : recurrence.getDueCheckDates(recurringEntry, today)) {
+                LocalDate date = recurrence.getOccurrenceDate(recurringEntry, checkDate);
+                if (!date.isAfter(today)) {
+                    T entry = createOccurrence(recurringEntry, date);
+                    occurrences.add(new Occurrence<>(recurringEntry, checkDate, entry));
+                }
+            }
+        }
+        occurrences.sort(Comparator.comparing(occurrence -> occurrence.entry.getDate()));
+
+        ArrayList<T> entries = new ArrayList<>(this.size() + occurrences.size());
+        int nextOccurrence = 0;
+        for (T entry : this) {
+            while (nextOccurrence < occurrences.size()
+                    && occurrences.get(nextOccurrence).entry.getDate().isBefore(entry.getDate())) {
+                addOccurrence(entries, occurrences.get(nextOccurrence++), occurrencesByEntry);
+            }
+            entries.add(entry);
+        }
+        while (nextOccurrence < occurrences.size()) {
+            addOccurrence(entries, occurrences.get(nextOccurrence++), occurrencesByEntry);
+        }
+        return entries;
+    }
+
+    private void addOccurrence(ArrayList<T> entries, Occurrence<T> occurrence,
+            IdentityHashMap<T, Occurrence<T>> occurrencesByEntry) {
+        entries.add(occurrence.entry);
+        if (occurrencesByEntry != null) {
+            occurrencesByEntry.put(occurrence.entry, occurrence);
+        }
+    }
+
+    /**
+     * Stores the given virtual recurrence and the earlier ones of the same recurring entry in this list.
+     *
+     * @return The stored entry for the given recurrence.
+     */
+    private T storeOccurrencesUntil(Occurrence<T> occurrence, LocalDate today) {
+        T recurringEntry = occurrence.recurringEntry;
+        Recurrence recurrence = Parser.parseRecurrence(recurringEntry);
+        ArrayList<T> backlog = new ArrayList<>();
+        T storedEntry = null;
+        for (LocalDate checkDate : recurrence.getDueCheckDates(recurringEntry, occurrence.checkDate)) {
+            LocalDate date = recurrence.getOccurrenceDate(recurringEntry, checkDate);
+            if (!date.isAfter(today)) {
+                storedEntry = createOccurrence(recurringEntry, date);
+                backlog.add(storedEntry);
+            }
+        }
+        addAll(backlog);
+        editEntry(recurringEntry, entry -> entry.editLastRecurrence(occurrence.checkDate));
+        return storedEntry;
+    }
+
+    /**
+     * Represents a virtual recurrence of a recurring entry, checked on the given date.
+     */
+    private static class Occurrence<T extends EntryType> {
+        private final T recurringEntry;
+        private final LocalDate checkDate;
+        private final T entry;
+
+        private Occurrence(T recurringEntry, LocalDate checkDate, T entry) {
+            this.recurringEntry = recurringEntry;
+            this.checkDate = checkDate;
+            this.entry = entry;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.type;
+
+import java.time.LocalDate;
+
+/**
+ * Loads entries of an {@link EntryList} that are kept in storage until they are needed, such as the entries of
+ * past years. Entries that are already in the list are never loaded again.
+ */
+public interface EntryListHistory {
+    /**
+     * Adds the stored entries dated on or after the given date that are not in the list yet to the list.
+     *
+     * @param date The earliest date of the entries needed.
+     */
+    void loadFrom(LocalDate date);
+
+    /**
+     * Returns the number of stored entries that are not in the list yet. After {@link #loadFrom(LocalDate)}, these
+     * are all dated before the year of the given date.
+     */
+    int countNotLoaded();
+
+    /**
+     * Returns the first day of the latest year with stored entries that are not in the list yet, so that loading
+     * from it adds the entries of that year, or null if every stored entry is in the list.
+     */
+    LocalDate findLatestNotLoaded();
+}
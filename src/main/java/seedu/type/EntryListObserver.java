@@ -0,0 +1,13 @@
+package seedu.type;
+
+/**
+ * Receives notifications of entries entering or leaving an {@link EntryList}.
+ * An edit to an entry is reported as a removal of the old entry followed by an addition of the edited one.
+ *
+ * @param <T> The type of entry stored in the observed list.
+ */
+public interface EntryListObserver<T extends EntryType> {
+    void entryAdded(T entry);
+
+    void entryRemoved(T entry);
+}
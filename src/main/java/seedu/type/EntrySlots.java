@@ -0,0 +1,341 @@
+package seedu.type;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Holds the entries of an {@link EntryList} in date order in an array of slots, with a map from the id of each
+ * entry to the entry. The slot of an entry is found by binary search on its date, so inserting an entry does not
+ * have to renumber the slots of the entries after it.
+ *
+ * <p>Removing an entry leaves a tombstone in its slot instead of shifting every later entry. A tombstone keeps
+ * the date of the removed entry, so the slots stay in date order for binary search, and a new entry that falls
+ * right after a tombstone in date order takes over its slot. The index of an entry among the live slots is
+ * found by a Fenwick tree that counts the live slots. The tombstones are compacted once they take up half of
+ * the slots, or when the entries are replaced all at once.
+ *
+ * @param <T> The type of entry held.
+ */
+class EntrySlots<T extends EntryType> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final HashMap<Long, T> entriesById = new HashMap<>();
+    /** The entry in each slot, or the date of the removed entry if the slot holds a tombstone. */
+    private Object[] slots = new Object[DEFAULT_CAPACITY];
+    private int slotCount;
+    private int tombstoneCount;
+    /** Fenwick tree counting the live slots, indexed from 1, or null if it has to be built again. */
+    private int[] liveCounts;
+
+    int size() {
+        return slotCount - tombstoneCount;
+    }
+
+    int getSlotCount() {
+        return slotCount;
+    }
+
+    boolean isTombstone(int slot) {
+        return slots[slot] instanceof LocalDate;
+    }
+
+    @SuppressWarnings("unchecked")
+    T getEntry(int slot) {
+        return (T) slots[slot];
+    }
+
+    T get(int index) {
+        return getEntry(toSlot(index));
+    }
+
+    /**
+     * Returns the slot of the live entry at the given index.
+     *
+     * @throws IndexOutOfBoundsException If there is no entry at the given index.
+     */
+    int toSlot(int index) {
+        Objects.checkIndex(index, size());
+        if (tombstoneCount == 0) {
+            return index;
+        }
+        int[] counts = getLiveCounts();
+        int slot = 0;
+        int remaining = index + 1;
+        for (int step = Integer.highestOneBit(slotCount); step > 0; step >>= 1) {
+            int next = slot + step;
+            if (next <= slotCount && counts[next] < remaining) {
+                slot = next;
+                remaining -= counts[next];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the number of live entries before the given slot, which is the index of the entry in the slot if it
+     * is live.
+     */
+    int toIndex(int slot) {
+        if (tombstoneCount == 0) {
+            return slot;
+        }
+        return countLive(slot);
+    }
+
+    /**
+     * Returns the first slot from the given slot on that holds a live entry, or the slot count if there is none.
+     */
+    int findLiveSlotFrom(int slot) {
+        while (slot < slotCount && isTombstone(slot)) {
+            slot++;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the entry with the given id, or null if there is none.
+     */
+    T findById(long id) {
+        return entriesById.get(id);
+    }
+
+    /**
+     * Returns the slot of the given entry, found by binary search on its date, or -1 if it is not held here.
+     */
+    int findSlot(T entry) {
+        LocalDate date = entry.getDate();
+        if (entriesById.get(entry.getId()) != entry) {
+            return -1;
+        }
+        for (int slot = findFirstSlotFrom(date, 0, slotCount); slot < slotCount; slot++) {
+            if (slots[slot] == entry) {
+                return slot;
+            }
+            if (!getDate(slot).equals(date)) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the first slot from the low slot inclusive to the high slot exclusive dated on or after the given
+     * date, or the high slot if there is none.
+     */
+    int findFirstSlotFrom(LocalDate date, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getDate(mid).isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first slot from the low slot inclusive to the high slot exclusive dated after the given date, or
+     * the high slot if there is none.
+     */
+    int findFirstSlotAfter(LocalDate date, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getDate(mid).isAfter(date)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inserts the entry after the entries with the same or an earlier date, taking over the slot of a tombstone
+     * right before that place if there is one.
+     */
+    void add(T entry) {
+        int slot = findFirstSlotAfter(entry.getDate(), 0, slotCount);
+        if (slot > 0 && isTombstone(slot - 1)) {
+            slots[slot - 1] = entry;
+            entriesById.put(entry.getId(), entry);
+            tombstoneCount--;
+            updateLiveCount(slot - 1, 1);
+            return;
+        }
+        ensureCapacity(slotCount + 1);
+        if (slot == slotCount) {
+            slots[slotCount++] = entry;
+            entriesById.put(entry.getId(), entry);
+            if (liveCounts != null) {
+                appendLiveCount();
+            }
+            return;
+        }
+        System.arraycopy(slots, slot, slots, slot + 1, slotCount - slot);
+        slots[slot] = entry;
+        slotCount++;
+        entriesById.put(entry.getId(), entry);
+        liveCounts = null;
+    }
+
+    /**
+     * Replaces the entries with the given entries, which must be in date order, dropping every tombstone.
+     */
+    void setAll(List<T> entries) {
+        clear();
+        ensureCapacity(entries.size());
+        for (T entry : entries) {
+            entriesById.put(entry.getId(), entry);
+            slots[slotCount++] = entry;
+        }
+    }
+
+    /**
+     * Puts a tombstone in the given slot, which must hold a live entry.
+     *
+     * @return The removed entry.
+     */
+    T remove(int slot) {
+        T entry = getEntry(slot);
+        entriesById.remove(entry.getId());
+        if (slot == slotCount - 1) {
+            slots[--slotCount] = null;
+            while (slotCount > 0 && isTombstone(slotCount - 1)) {
+                slots[--slotCount] = null;
+                tombstoneCount--;
+            }
+            return entry;
+        }
+        slots[slot] = entry.getDate();
+        tombstoneCount++;
+        updateLiveCount(slot, -1);
+        if (tombstoneCount * 2 > slotCount) {
+            compact();
+        }
+        return entry;
+    }
+
+    /**
+     * Puts the given entry in the given slot, which must hold a live entry, without keeping date order.
+     *
+     * @return The entry that was in the slot.
+     */
+    T set(int slot, T entry) {
+        T replacedEntry = getEntry(slot);
+        entriesById.remove(replacedEntry.getId());
+        slots[slot] = entry;
+        entriesById.put(entry.getId(), entry);
+        return replacedEntry;
+    }
+
+    /**
+     * Moves the entry in the given slot to its place in date order after its date changed, after the other
+     * entries with the same date. Only the slots between its old and new place are moved.
+     *
+     * @param slot The slot of the entry.
+     * @param isLater True if the new date of the entry is after its old date.
+     */
+    void moveToDateOrder(int slot, boolean isLater) {
+        Object entry = slots[slot];
+        LocalDate date = getDate(slot);
+        int newSlot;
+        if (isLater) {
+            newSlot = findFirstSlotAfter(date, slot + 1, slotCount) - 1;
+            System.arraycopy(slots, slot + 1, slots, slot, newSlot - slot);
+            slots[newSlot] = entry;
+        } else {
+            newSlot = findFirstSlotAfter(date, 0, slot);
+            System.arraycopy(slots, newSlot, slots, newSlot + 1, slot - newSlot);
+            slots[newSlot] = entry;
+        }
+        if (newSlot != slot) {
+            liveCounts = null;
+        }
+    }
+
+    void clear() {
+        Arrays.fill(slots, 0, slotCount, null);
+        entriesById.clear();
+        slotCount = 0;
+        tombstoneCount = 0;
+        liveCounts = null;
+    }
+
+    private LocalDate getDate(int slot) {
+        Object content = slots[slot];
+        return isTombstone(slot) ? (LocalDate) content : ((EntryType) content).getDate();
+    }
+
+    private void compact() {
+        int liveCount = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!isTombstone(slot)) {
+                slots[liveCount++] = slots[slot];
+            }
+        }
+        Arrays.fill(slots, liveCount, slotCount, null);
+        slotCount = liveCount;
+        tombstoneCount = 0;
+        liveCounts = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= slots.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, slots.length + (slots.length >> 1));
+        slots = Arrays.copyOf(slots, newCapacity);
+        if (liveCounts != null) {
+            liveCounts = Arrays.copyOf(liveCounts, newCapacity + 1);
+        }
+    }
+
+    private int[] getLiveCounts() {
+        if (liveCounts != null) {
+            return liveCounts;
+        }
+        int[] counts = new int[slots.length + 1];
+        for (int i = 1; i <= slotCount; i++) {
+            counts[i] += isTombstone(i - 1) ? 0 : 1;
+            int parent = i + (i & -i);
+            if (parent <= slotCount) {
+                counts[parent] += counts[i];
+            }
+        }
+        liveCounts = counts;
+        return counts;
+    }
+
+    /**
+     * Returns the number of live slots among the given number of first slots.
+     */
+    private int countLive(int count) {
+        int[] counts = getLiveCounts();
+        int liveCount = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            liveCount += counts[i];
+        }
+        return liveCount;
+    }
+
+    private void updateLiveCount(int slot, int change) {
+        if (liveCounts == null) {
+            return;
+        }
+        for (int i = slot + 1; i <= slotCount; i += i & -i) {
+            liveCounts[i] += change;
+        }
+    }
+
+    /**
+     * Adds the live slot just appended to the tree, which covers the slots before it that its node spans.
+     */
+    private void appendLiveCount() {
+        int i = slotCount;
+        liveCounts[i] = 1 + countLive(i - 1) - countLive(i - (i & -i));
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.type;
 
+import seedu.classes.Money;
 import seedu.classes.Ui;
+import seedu.classes.WiagiClock;
 import seedu.commands.CommandUtils;
 import seedu.exception.WiagiInvalidInputException;
 import seedu.recurrence.RecurrenceFrequency;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static seedu.classes.Constants.LIST_SEPARATOR;
 import static seedu.classes.Constants.RECURRENCE_IDENTIFIER;
@@ -26,7 +29,10 @@ import static seedu.classes.Constants.EDIT_COMMAND_FORMAT;
  * Provides functionality to create, edit, and retrieve details of an entry.
  */
 public class EntryType {
-    private double amount;
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    private final long id = NEXT_ID.incrementAndGet();
+    private long amountInCents;
     private String description;
     private LocalDate date;
     private String tag;
@@ -36,8 +42,8 @@ public class EntryType {
 
     //@@author wongwh2002
     public EntryType(String optionalArguments, double amount, String description) {
-        this.amount = amount;
-        assert amount > 0 : "Amount should be greater than zero";
+        this.amountInCents = Money.toCents(amount);
+        assert amountInCents > 0 : "Amount should be greater than zero";
         this.description = description;
         assert description != null && !description.isEmpty() : "Description should not be null or empty";
         this.date = extractDate(optionalArguments);
@@ -51,7 +57,7 @@ public class EntryType {
     }
 
     public EntryType(EntryType other) {
-        this.amount = other.amount;
+        this.amountInCents = other.amountInCents;
         this.description = other.description;
         this.date = other.date;
         this.tag = other.tag;
@@ -63,7 +69,7 @@ public class EntryType {
     public EntryType(double amount, String description, LocalDate date,
                      String tag, RecurrenceFrequency recurrenceFrequency,
                      LocalDate lastRecurrence, int dayOfRecurrence) {
-        this.amount = amount;
+        this.amountInCents = Money.toCents(amount);
         this.description = description;
         this.date = date;
         this.tag = tag;
@@ -81,14 +87,28 @@ public class EntryType {
     }
 
     public double getAmount() {
-        return this.amount;
+        return Money.toAmount(amountInCents);
+    }
+
+    /**
+     * Returns the id of this entry, which is unique among the entries created while the application runs and
+     * does not change when the entry is edited or other entries are added or removed.
+     *
+     * @return The id of this entry.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public long getAmountInCents() {
+        return this.amountInCents;
     }
 
     private LocalDate extractDate(String optionalArguments) throws WiagiInvalidInputException {
         String[] commandAndDate = optionalArguments.split(DATE_IDENTIFIER);
         try {
             if (commandAndDate.length == 1) {
-                return LocalDate.now();
+                return WiagiClock.getToday();
             }
             return LocalDate.parse(commandAndDate[1].trim());
         } catch (DateTimeParseException e) {
@@ -125,8 +145,7 @@ public class EntryType {
 
     @Override
     public String toString() {
-        String amountString = (amount % 1 == 0) ? String.valueOf((int) amount) : String.format("%.02f", amount);
-        String returnString = description + LIST_SEPARATOR + amountString + LIST_SEPARATOR + date;
+        String returnString = description + LIST_SEPARATOR + Money.format(amountInCents) + LIST_SEPARATOR + date;
         if (!tag.isEmpty()) {
             returnString += LIST_SEPARATOR + "Tag: " + tag;
         }
@@ -137,7 +156,7 @@ public class EntryType {
     }
 
     public void editAmount(String newAmount) throws WiagiInvalidInputException{
-        this.amount = CommandUtils.formatAmount(newAmount, EDIT_COMMAND_FORMAT);
+        this.amountInCents = CommandUtils.parseCents(newAmount, EDIT_COMMAND_FORMAT);
     }
 
     public void editDescription(String newDescription){
@@ -1,44 +1,42 @@
 package seedu.type;
 
-import seedu.classes.Parser;
-import seedu.recurrence.Recurrence;
+import seedu.classes.WiagiClock;
+import seedu.recurrence.RecurrenceBackfill;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.time.LocalDate;
 
 /**
  * Represents a list of {@link Income} entries.
  * Provides methods to manage and update income recurrence.
  */
-public class IncomeList extends ArrayList<Income> {
+public class IncomeList extends EntryList<Income> {
     public IncomeList() {
         super();
     }
 
     public IncomeList(IncomeList incomes) {
-        super(incomes);  // Initialise with data in storage
+        this();
+        addAll(incomes);  // Initialise with data in storage
     }
 
     /**
-     * Updates the recurrence for each income entry in the list.
-     * If an income entry has a recurrence, it updates according to the specified recurrence rules.
-     * The list is then sorted by the date of each entry.
+     * Adds the recurrences that are due for the recurring incomes in the list.
+     * Only the recurring incomes taken off the recurrence schedule as due are checked, and all their
+     * recurrences are added in a single batch.
+     * Nothing is stored if recurrences are expanded virtually.
      */
     public void updateRecurrence() {
-        int size = this.size();
-        for (int i = 0; i < size; i++) {
-            Income income = this.get(i);
-            Recurrence recurrence = Parser.parseRecurrence(income);
-            if (recurrence != null) {
-                recurrence.checkIncomeRecurrence(income, this, true);
-            }
+        if (isRecurrenceVirtual()) {
+            return;
         }
+        LocalDate today = WiagiClock.getToday();
+        RecurrenceBackfill.backfill(this, pollDueRecurringEntries(today), today, true);
     }
 
     @Override
-    public boolean add(Income income) {
-        super.add(income);
-        this.sort(Comparator.comparing(EntryType::getDate));
-        return true;
+    public Income createOccurrence(Income recurringIncome, LocalDate date) {
+        Income income = new Income(recurringIncome);
+        income.editDateWithLocalDate(date);
+        return income;
     }
 }
@@ -0,0 +1,27 @@
+package seedu.type;
+
+/**
+ * Represents an entry found in an {@link EntryList}, together with its index in that list.
+ *
+ * @param <T> The type of entry found.
+ */
+public class IndexedEntry<T extends EntryType> {
+    private final int index;
+    private final T entry;
+
+    public IndexedEntry(int index, T entry) {
+        this.index = index;
+        this.entry = entry;
+    }
+
+    /**
+     * Returns the zero-based index of the entry in the list it was found in.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public T getEntry() {
+        return entry;
+    }
+}
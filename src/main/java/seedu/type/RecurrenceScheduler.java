@@ -0,0 +1,101 @@
+package seedu.type;
+
+import seedu.classes.Parser;
+import seedu.recurrence.Recurrence;
+import seedu.recurrence.RecurrenceFrequency;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Keeps the recurring entries of an {@link EntryList} in a min-heap ordered by the date on which their next
+ * recurrence is checked, so that only the entries with a recurrence due are visited.
+ * Entries are scheduled again whenever they are added or edited. Outdated schedules are left in the heap and
+ * skipped when they reach the top.
+ *
+ * @param <T> The type of entry scheduled.
+ */
+class RecurrenceScheduler<T extends EntryType> {
+    private static final int MIN_HEAP_SIZE_TO_COMPACT = 16;
+
+    private final HashSet<T> recurringEntries = new HashSet<>();
+    private final PriorityQueue<ScheduledRecurrence<T>> schedule =
+            new PriorityQueue<>(Comparator.comparing(scheduled -> scheduled.checkDate));
+
+    void add(T entry) {
+        if (!isRecurring(entry)) {
+            return;
+        }
+        recurringEntries.add(entry);
+        schedule.add(new ScheduledRecurrence<>(getNextCheckDate(entry), entry));
+        if (schedule.size() > MIN_HEAP_SIZE_TO_COMPACT && schedule.size() > 2 * recurringEntries.size()) {
+            compact();
+        }
+    }
+
+    void remove(T entry) {
+        recurringEntries.remove(entry);
+    }
+
+    Set<T> getRecurringEntries() {
+        return Collections.unmodifiableSet(recurringEntries);
+    }
+
+    /**
+     * Removes and returns the recurring entries with a recurrence checked on or before the given date.
+     * Each entry is returned once, and is scheduled again when its last recurrence is updated.
+     *
+     * @param today The current date.
+     * @return The due recurring entries, in the order their recurrences are due.
+     */
+    ArrayList<T> pollDue(LocalDate today) {
+        ArrayList<T> dueEntries = new ArrayList<>();
+        HashSet<T> polledEntries = new HashSet<>();
+        while (!schedule.isEmpty() && !schedule.peek().checkDate.isAfter(today)) {
+            ScheduledRecurrence<T> scheduled = schedule.poll();
+            if (isCurrent(scheduled) && polledEntries.add(scheduled.entry)) {
+                dueEntries.add(scheduled.entry);
+            }
+        }
+        return dueEntries;
+    }
+
+    private boolean isCurrent(ScheduledRecurrence<T> scheduled) {
+        return recurringEntries.contains(scheduled.entry) && isRecurring(scheduled.entry)
+                && scheduled.checkDate.equals(getNextCheckDate(scheduled.entry));
+    }
+
+    private void compact() {
+        ArrayList<ScheduledRecurrence<T>> current = new ArrayList<>();
+        for (T entry : recurringEntries) {
+            current.add(new ScheduledRecurrence<>(getNextCheckDate(entry), entry));
+        }
+        schedule.clear();
+        schedule.addAll(current);
+    }
+
+    private static boolean isRecurring(EntryType entry) {
+        return entry.getRecurrenceFrequency() != null && entry.getRecurrenceFrequency() != RecurrenceFrequency.NONE
+                && entry.getLastRecurrence() != null;
+    }
+
+    private static LocalDate getNextCheckDate(EntryType entry) {
+        Recurrence recurrence = Parser.parseRecurrence(entry);
+        return recurrence.getNextCheckDate(entry.getLastRecurrence());
+    }
+
+    private static class ScheduledRecurrence<T extends EntryType> {
+        private final LocalDate checkDate;
+        private final T entry;
+
+        private ScheduledRecurrence(LocalDate checkDate, T entry) {
+            this.checkDate = checkDate;
+            this.entry = entry;
+        }
+    }
+}
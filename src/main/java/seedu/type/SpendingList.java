@@ -1,29 +1,30 @@
 package seedu.type;
 
-import seedu.classes.Parser;
+import seedu.classes.Money;
 import seedu.classes.Ui;
-import seedu.recurrence.Recurrence;
+import seedu.classes.WiagiClock;
+import seedu.recurrence.RecurrenceBackfill;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.time.YearMonth;
 
 /**
  * Represents a list of spendings with budget settings.
  */
-public class SpendingList extends ArrayList<Spending> {
-    private double dailyBudget;
-    private double monthlyBudget;
-    private double yearlyBudget;
+public class SpendingList extends EntryList<Spending> {
+    private final SpendingTotals totals = new SpendingTotals();
+    private long dailyBudgetInCents;
+    private long monthlyBudgetInCents;
+    private long yearlyBudgetInCents;
 
     /**
      * Constructs an empty SpendingList with default budget values.
      */
     public SpendingList() {
         super();
-        dailyBudget = 0;
-        monthlyBudget = 0;
-        yearlyBudget = 0;
+        dailyBudgetInCents = 0;
+        monthlyBudgetInCents = 0;
+        yearlyBudgetInCents = 0;
     }
 
     /**
@@ -32,10 +33,8 @@ public class SpendingList extends ArrayList<Spending> {
      * @param spendings The SpendingList to copy data from.
      */
     public SpendingList(SpendingList spendings) {
-        super(spendings);  // Initialise with data in storage
-        dailyBudget = 0;
-        monthlyBudget = 0;
-        yearlyBudget = 0;
+        this();
+        addAll(spendings);  // Initialise with data in storage
     }
 
     /**
@@ -44,7 +43,11 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The daily budget.
      */
     public double getDailyBudget() {
-        return dailyBudget;
+        return Money.toAmount(dailyBudgetInCents);
+    }
+
+    public long getDailyBudgetInCents() {
+        return dailyBudgetInCents;
     }
 
     /**
@@ -53,7 +56,11 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The monthly budget.
      */
     public double getMonthlyBudget() {
-        return monthlyBudget;
+        return Money.toAmount(monthlyBudgetInCents);
+    }
+
+    public long getMonthlyBudgetInCents() {
+        return monthlyBudgetInCents;
     }
 
     /**
@@ -62,34 +69,41 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The yearly budget.
      */
     public double getYearlyBudget() {
-        return yearlyBudget;
+        return Money.toAmount(yearlyBudgetInCents);
+    }
+
+    public long getYearlyBudgetInCents() {
+        return yearlyBudgetInCents;
     }
 
     /**
-     * Sets the daily budget.
+     * Sets the daily budget, rounded to the nearest cent.
      *
      * @param dailyBudget The daily budget to set.
      */
     public void setDailyBudget(double dailyBudget) {
-        this.dailyBudget = Math.round(dailyBudget * 100.0) / 100.0;
+        this.dailyBudgetInCents = Money.toCents(dailyBudget);
+        markChanged();
     }
 
     /**
-     * Sets the monthly budget.
+     * Sets the monthly budget, rounded to the nearest cent.
      *
      * @param monthlyBudget The monthly budget to set.
      */
     public void setMonthlyBudget(double monthlyBudget) {
-        this.monthlyBudget = Math.round(monthlyBudget * 100.0) / 100.0;
+        this.monthlyBudgetInCents = Money.toCents(monthlyBudget);
+        markChanged();
     }
 
     /**
-     * Sets the yearly budget.
+     * Sets the yearly budget, rounded to the nearest cent.
      *
      * @param yearlyBudget The yearly budget to set.
      */
     public void setYearlyBudget(double yearlyBudget) {
-        this.yearlyBudget = Math.round(yearlyBudget * 100.0) / 100.0;
+        this.yearlyBudgetInCents = Money.toCents(yearlyBudget);
+        markChanged();
     }
 
     /**
@@ -98,23 +112,31 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The total spending for the current month.
      */
     public double getMonthlySpending() {
-        return getMonthlySpending(LocalDate.now());
+        return getMonthlySpending(WiagiClock.getToday());
     }
 
     /**
-     * Calculates the total spending for the specified month of the given date.
+     * Returns the running total spending for the specified month of the given date.
+     * Virtual recurrences that are due are included.
      *
      * @param currentDate The date used to specify the month to calculate spending.
      * @return The total spending for the specified month.
      */
-    public double getMonthlySpending(LocalDate currentDate){
-        double spendingTotal = 0;
-        for (Spending spending : this) {
-            if (isThisMonth(spending.getDate(), currentDate)) {
-                spendingTotal = spendingTotal + spending.getAmount();
-            }
-        }
-        return spendingTotal;
+    public double getMonthlySpending(LocalDate currentDate) {
+        return Money.toAmount(getMonthlySpendingInCents(currentDate));
+    }
+
+    /**
+     * Returns the running total spending in cents for the specified month of the given date.
+     * Virtual recurrences that are due are included.
+     *
+     * @param currentDate The date used to specify the month to calculate spending.
+     * @return The total spending in cents for the specified month.
+     */
+    public long getMonthlySpendingInCents(LocalDate currentDate) {
+        YearMonth month = YearMonth.from(currentDate);
+        return totals.getMonthlyTotalInCents(currentDate)
+                + getOccurrenceTotalInCents(month.atDay(1), month.atEndOfMonth());
     }
 
     /**
@@ -123,23 +145,29 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The total spending for the current day.
      */
     public double getDailySpending() {
-        return getDailySpending(LocalDate.now());
+        return getDailySpending(WiagiClock.getToday());
     }
 
     /**
-     * Calculates the total spending for the specified day.
+     * Returns the running total spending for the specified day.
+     * Virtual recurrences that are due are included.
      *
      * @param currentDate The date used to specify the day to calculate spending.
      * @return The total spending for the specified day.
      */
-    public double getDailySpending(LocalDate currentDate){
-        double spendingTotal = 0;
-        for (Spending spending : this) {
-            if (spending.getDate().isEqual(currentDate)) {
-                spendingTotal = spendingTotal + spending.getAmount();
-            }
-        }
-        return spendingTotal;
+    public double getDailySpending(LocalDate currentDate) {
+        return Money.toAmount(getDailySpendingInCents(currentDate));
+    }
+
+    /**
+     * Returns the running total spending in cents for the specified day.
+     * Virtual recurrences that are due are included.
+     *
+     * @param currentDate The date used to specify the day to calculate spending.
+     * @return The total spending in cents for the specified day.
+     */
+    public long getDailySpendingInCents(LocalDate currentDate) {
+        return totals.getDailyTotalInCents(currentDate) + getOccurrenceTotalInCents(currentDate, currentDate);
     }
 
     /**
@@ -148,52 +176,59 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The total spending for the current year.
      */
     public double getYearlySpending() {
-        return getYearlySpending(LocalDate.now());
+        return getYearlySpending(WiagiClock.getToday());
     }
 
     /**
-     * Calculates the total spending for the specified calendar year.
+     * Returns the running total spending for the specified calendar year.
+     * Virtual recurrences that are due are included.
      *
      * @param currentDate The date used to specify the year to calculate spending.
      * @return The total spending for the specified year.
      */
-    public double getYearlySpending(LocalDate currentDate){
-        double spendingTotal = 0;
-        for (Spending spending : this) {
-            if (isThisYear(spending.getDate(), currentDate)) {
-                spendingTotal = spendingTotal + spending.getAmount();
-            }
-        }
-        return spendingTotal;
-    }
-
-    private boolean isThisYear(LocalDate date, LocalDate currentDate) {
-        return date.getYear() == currentDate.getYear();
+    public double getYearlySpending(LocalDate currentDate) {
+        return Money.toAmount(getYearlySpendingInCents(currentDate));
     }
 
-    private boolean isThisMonth(LocalDate date, LocalDate currentDate) {
-        return date.getMonth().equals(currentDate.getMonth()) && isThisYear(date, currentDate);
+    /**
+     * Returns the running total spending in cents for the specified calendar year.
+     * Virtual recurrences that are due are included.
+     *
+     * @param currentDate The date used to specify the year to calculate spending.
+     * @return The total spending in cents for the specified year.
+     */
+    public long getYearlySpendingInCents(LocalDate currentDate) {
+        LocalDate yearStart = currentDate.withDayOfYear(1);
+        return totals.getYearlyTotalInCents(currentDate)
+                + getOccurrenceTotalInCents(yearStart, yearStart.plusYears(1).minusDays(1));
     }
 
     /**
-     * Updates all recurring spendings in the list based on their recurrence rules.
-     * After updating, sorts the list by spending dates.
+     * Adds the recurrences that are due for the recurring spendings in the list.
+     * Only the recurring spendings taken off the recurrence schedule as due are checked, and all their
+     * recurrences are added in a single batch.
+     * Nothing is stored if recurrences are expanded virtually.
      */
     public void updateRecurrence() {
-        int size = this.size();
-        for (int i = 0; i < size; i++) {
-            Spending spending = this.get(i);
-            Recurrence recurrence = Parser.parseRecurrence(spending);
-            if (recurrence != null) {
-                recurrence.checkSpendingRecurrence(spending, this, true);
-            }
+        if (isRecurrenceVirtual()) {
+            return;
         }
+        LocalDate today = WiagiClock.getToday();
+        RecurrenceBackfill.backfill(this, pollDueRecurringEntries(today), today, true);
+    }
+
+    @Override
+    public Spending createOccurrence(Spending recurringSpending, LocalDate date) {
+        Spending spending = new Spending(recurringSpending);
+        spending.editDateWithLocalDate(date);
+        return spending;
     }
 
     public void checkOverspend() {
-        double dailyBudgetLeft = getDailyBudget() - getDailySpending();
-        double monthlyBudgetLeft = getMonthlyBudget() - getMonthlySpending();
-        double yearlyBudgetLeft = getYearlyBudget() - getYearlySpending();
+        LocalDate today = WiagiClock.getToday();
+        long dailyBudgetLeft = dailyBudgetInCents - getDailySpendingInCents(today);
+        long monthlyBudgetLeft = monthlyBudgetInCents - getMonthlySpendingInCents(today);
+        long yearlyBudgetLeft = yearlyBudgetInCents - getYearlySpendingInCents(today);
         if (dailyBudgetLeft  < 0) {
             Ui.printOverspendMessage("daily", dailyBudgetLeft);
         }
@@ -206,11 +241,12 @@ public class SpendingList extends ArrayList<Spending> {
     }
 
     @Override
-    public boolean add(Spending spending) {
-        super.add(spending);
-        this.sort(Comparator.comparing(EntryType::getDate));
-        return true;
+    protected void entryAdded(Spending spending) {
+        totals.add(spending);
     }
-}
-
 
+    @Override
+    protected void entryRemoved(Spending spending) {
+        totals.remove(spending);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.type;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+
+/**
+ * Keeps running spending totals per day, month and year so that they can be looked up without
+ * scanning the whole {@link SpendingList}.
+ * Totals are kept in cents to avoid rounding drift as entries are added and removed.
+ */
+class SpendingTotals {
+    private final HashMap<LocalDate, Long> dailyTotals = new HashMap<>();
+    private final HashMap<YearMonth, Long> monthlyTotals = new HashMap<>();
+    private final HashMap<Integer, Long> yearlyTotals = new HashMap<>();
+
+    void add(Spending spending) {
+        update(spending.getDate(), spending.getAmountInCents());
+    }
+
+    void remove(Spending spending) {
+        update(spending.getDate(), -spending.getAmountInCents());
+    }
+
+    long getDailyTotalInCents(LocalDate date) {
+        return dailyTotals.getOrDefault(date, 0L);
+    }
+
+    long getMonthlyTotalInCents(LocalDate date) {
+        return monthlyTotals.getOrDefault(YearMonth.from(date), 0L);
+    }
+
+    long getYearlyTotalInCents(LocalDate date) {
+        return yearlyTotals.getOrDefault(date.getYear(), 0L);
+    }
+
+    private void update(LocalDate date, long cents) {
+        addToBucket(dailyTotals, date, cents);
+        addToBucket(monthlyTotals, YearMonth.from(date), cents);
+        addToBucket(yearlyTotals, date.getYear(), cents);
+    }
+
+    private static <K> void addToBucket(HashMap<K, Long> buckets, K key, long cents) {
+        long total = buckets.getOrDefault(key, 0L) + cents;
+        if (total == 0) {
+            buckets.remove(key);
+        } else {
+            buckets.put(key, total);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.type;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Keeps the entries of an {@link EntryList} grouped by tag, so that the tags in use and the entries with a
+ * given tag can be looked up without scanning the whole list.
+ *
+ * @param <T> The type of entry indexed.
+ */
+class TagIndex<T extends EntryType> {
+    private final HashMap<String, HashSet<T>> entriesByTag = new HashMap<>();
+
+    void add(T entry) {
+        entriesByTag.computeIfAbsent(entry.getTag(), tag -> new HashSet<>()).add(entry);
+    }
+
+    void remove(T entry) {
+        HashSet<T> entries = entriesByTag.get(entry.getTag());
+        if (entries == null) {
+            return;
+        }
+        entries.remove(entry);
+        if (entries.isEmpty()) {
+            entriesByTag.remove(entry.getTag());
+        }
+    }
+
+    Set<String> getTags() {
+        return Collections.unmodifiableSet(entriesByTag.keySet());
+    }
+
+    Set<T> getEntries(String tag) {
+        return Collections.unmodifiableSet(entriesByTag.getOrDefault(tag, new HashSet<>()));
+    }
+}
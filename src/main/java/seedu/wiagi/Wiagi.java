@@ -1,17 +1,27 @@
 package seedu.wiagi;
 
+import seedu.classes.OutputSink;
 import seedu.classes.Password;
 import seedu.classes.Parser;
+import seedu.classes.WiagiClock;
 import seedu.classes.WiagiLogger;
+import seedu.storage.Autosave;
 import seedu.storage.Storage;
 import seedu.commands.Command;
 import seedu.type.IncomeList;
 import seedu.classes.Ui;
 import seedu.type.SpendingList;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.NoSuchElementException;
 import java.util.logging.Level;
 
+import static seedu.classes.Constants.AUTOSAVE_INTERVAL_PROPERTY;
+import static seedu.classes.Constants.DEFAULT_AUTOSAVE_INTERVAL_SECONDS;
+import static seedu.classes.Constants.OUTPUT_FILE_PROPERTY;
+import static seedu.classes.Constants.VIRTUAL_RECURRENCE_PROPERTY;
+
 /**
  * Main application class for Wiagi, a financial tracking application.
  * Initializes the application and manages the execution flow.
@@ -19,22 +29,34 @@ import java.util.logging.Level;
 public class Wiagi {
 
     private static Storage storage;
+    private static Autosave autosave;
+    private static OutputSink output;
     private static IncomeList incomes;
     private static SpendingList spendings;
 
     private Wiagi() {
         WiagiLogger.initLogger();
+        output = createOutput();
+        Ui.setOutput(output);
         storage = new Storage();
         incomes = Storage.getIncomes();
         spendings = Storage.getSpendings();
+        boolean isRecurrenceVirtual = Boolean.getBoolean(VIRTUAL_RECURRENCE_PROPERTY);
+        incomes.setRecurrenceVirtual(isRecurrenceVirtual);
+        spendings.setRecurrenceVirtual(isRecurrenceVirtual);
+        WiagiClock.refresh();
         incomes.updateRecurrence();
         spendings.updateRecurrence();
+        long autosaveInterval = Long.getLong(AUTOSAVE_INTERVAL_PROPERTY, DEFAULT_AUTOSAVE_INTERVAL_SECONDS);
+        autosave = new Autosave(storage, autosaveInterval > 0 ? autosaveInterval : DEFAULT_AUTOSAVE_INTERVAL_SECONDS);
     }
 
     private void run() {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             Ui.printWithTab("Saving data...");
+            autosave.stop();
             storage.save(incomes, spendings);
+            output.close();
         }));
         Ui.welcome();
         int password = Storage.getPassword();
@@ -50,15 +72,42 @@ public class Wiagi {
         while (!isExit) {
             try {
                 String fullCommand = Ui.readCommand();
+                // the date is read once per command and may change while the app is open
+                WiagiClock.refresh();
+                incomes.updateRecurrence();
+                spendings.updateRecurrence();
                 Command c = Parser.parseUserInput(fullCommand);
                 c.execute(incomes, spendings);
                 isExit = c.isExit();
+                storage.queueChanges(incomes, spendings);
                 Ui.printSeparator();
+                Ui.flushOutput();
             } catch (NoSuchElementException e) {
                 WiagiLogger.logger.log(Level.WARNING, "Nothing to read", e);
             }
         }
+        autosave.stop();
         storage.save(incomes, spendings);
+        Ui.flushOutput();
+    }
+
+    /**
+     * Returns the sink that the output of each command is collected in and written out from once the command is
+     * done. The output goes to the console, or to the file named by the {@code wiagi.outputFile} system
+     * property if it is set.
+     */
+    private static OutputSink createOutput() {
+        String outputFile = System.getProperty(OUTPUT_FILE_PROPERTY);
+        if (outputFile == null) {
+            return OutputSink.toConsole();
+        }
+        try {
+            return OutputSink.toFile(Paths.get(outputFile));
+        } catch (IOException e) {
+            WiagiLogger.logger.log(Level.WARNING, "Unable to open output file " + outputFile, e);
+            Ui.printWithTab("Unable to write the output to " + outputFile + ", printing it here instead.");
+            return OutputSink.toConsole();
+        }
     }
 
     /**
@@ -0,0 +1,49 @@
+package seedu.benchmark;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Times a piece of work over several runs, after a warm-up run, and prints the fastest and mean run time.
+ */
+public class Benchmark {
+    private static final int WARM_UP_RUNS = 1;
+    private static final int MEASURED_RUNS = 3;
+
+    /**
+     * Runs the work and prints its timings under the given label.
+     *
+     * @param label The name of the work, printed with its timings.
+     * @param work The work to time. Its result is printed so that the work cannot be optimised away.
+     * @return The fastest run time in milliseconds.
+     */
+    public static double measure(String label, Callable<?> work) {
+        Object result = null;
+        try {
+            for (int i = 0; i < WARM_UP_RUNS; i++) {
+                result = work.call();
+            }
+            long fastest = Long.MAX_VALUE;
+            long total = 0;
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                long start = System.nanoTime();
+                result = work.call();
+                long elapsed = System.nanoTime() - start;
+                fastest = Math.min(fastest, elapsed);
+                total += elapsed;
+            }
+            double fastestMillis = fastest / 1e6;
+            System.out.printf("%-50s fastest %10.2f ms   mean %10.2f ms   (result: %s)%n", label,
+                    fastestMillis, total / 1e6 / MEASURED_RUNS, result);
+            return fastestMillis;
+        } catch (Exception e) {
+            throw new IllegalStateException("Benchmark " + label + " failed", e);
+        }
+    }
+
+    /**
+     * Prints how many times faster the new run time is compared to the old one.
+     */
+    public static void printSpeedup(String label, double oldMillis, double newMillis) {
+        System.out.printf("%-50s speedup x%.2f%n", label, oldMillis / newMillis);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.benchmark;
+
+import seedu.classes.UiListBenchmark;
+import seedu.recurrence.RecurrenceBackfillBenchmark;
+import seedu.storage.StorageFormatBenchmark;
+import seedu.storage.StorageLoadBenchmark;
+import seedu.storage.StoragePartitionBenchmark;
+import seedu.storage.StorageSaveBenchmark;
+import seedu.type.DescriptionSearchBenchmark;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the benchmarks named in the arguments, or all benchmarks if there are none.
+ * Run with {@code ./gradlew benchmark} or {@code ./gradlew benchmark -Pbenchmarks=load}.
+ */
+public class BenchmarkRunner {
+    private static final Map<String, Runnable> BENCHMARKS = new LinkedHashMap<>();
+
+    static {
+        BENCHMARKS.put("load", StorageLoadBenchmark::run);
+        BENCHMARKS.put("find-description", DescriptionSearchBenchmark::run);
+        BENCHMARKS.put("backfill", RecurrenceBackfillBenchmark::run);
+        BENCHMARKS.put("save", StorageSaveBenchmark::run);
+        BENCHMARKS.put("format", StorageFormatBenchmark::run);
+        BENCHMARKS.put("partitions", StoragePartitionBenchmark::run);
+        BENCHMARKS.put("list", UiListBenchmark::run);
+    }
+
+    public static void main(String[] args) {
+        List<String> names = (args.length == 0) ? List.copyOf(BENCHMARKS.keySet()) : Arrays.asList(args);
+        for (String name : names) {
+            Runnable benchmark = BENCHMARKS.get(name);
+            if (benchmark == null) {
+                System.out.println("Unknown benchmark: " + name + ", expected one of " + BENCHMARKS.keySet());
+                continue;
+            }
+            System.out.println("== " + name + " ==");
+            benchmark.run();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.benchmark;
+
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.Spending;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Generates the spendings that the benchmarks run on. The generator is seeded, so every run of a benchmark works
+ * on the same spendings.
+ */
+public class SpendingGenerator {
+    private static final String[] TAGS = {"", "food", "transport", "rent", "fun"};
+    /** One in this many generated spendings recurs monthly, if recurring spendings are generated. */
+    private static final int RECURRING_FRACTION = 20;
+    private static final int DESCRIPTION_COUNT = 5000;
+
+    /**
+     * Creates spendings in no particular order, dated at random over the given days, with amounts from $0.01 to
+     * $1000 and a few thousand distinct descriptions.
+     *
+     * @param count The number of spendings to create.
+     * @param start The earliest date of the spendings.
+     * @param days The number of days from the start date that the spendings are spread over.
+     * @param hasRecurring True to make one in {@value #RECURRING_FRACTION} spendings recur monthly.
+     * @return The spendings.
+     */
+    public static ArrayList<Spending> createSpendings(int count, LocalDate start, int days, boolean hasRecurring) {
+        Random random = new Random(1);
+        ArrayList<Spending> spendings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate date = start.plusDays(random.nextInt(days));
+            boolean isRecurring = hasRecurring && random.nextInt(RECURRING_FRACTION) == 0;
+            spendings.add(new Spending(random.nextInt(100000) / 100.0 + 0.01,
+                    "item " + random.nextInt(DESCRIPTION_COUNT), date, TAGS[random.nextInt(TAGS.length)],
+                    isRecurring ? RecurrenceFrequency.MONTHLY : RecurrenceFrequency.NONE,
+                    isRecurring ? date : null, date.getDayOfMonth()));
+        }
+        return spendings;
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.classes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MoneyTest {
+    @Test
+    public void format_wholeAndFractionalAmounts_formattedWithoutTrailingZeroCents() {
+        assertEquals("12", Money.format(1200));
+        assertEquals("12.50", Money.format(1250));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("0", Money.format(0));
+        assertEquals("-3.10", Money.format(-310));
+        assertEquals("92233720368547758.07", Money.format(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void toCents_repeatingBinaryFractions_sumExactly() {
+        long total = 0;
+        for (int i = 0; i < 10; i++) {
+            total += Money.toCents(0.1);
+        }
+        assertEquals(100, total);
+        assertEquals(1.0, Money.toAmount(total));
+        assertEquals(29, Money.toCents(0.285 + 0.005));
+    }
+}
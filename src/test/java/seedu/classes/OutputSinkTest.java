@@ -0,0 +1,46 @@
+package seedu.classes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OutputSinkTest {
+    @Test
+    public void println_bufferedConsole_writtenOnFlush() {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        try {
+            OutputSink sink = OutputSink.toConsole();
+            sink.println("first");
+            sink.println("second");
+            assertEquals("", outContent.toString());
+            sink.flush();
+            assertEquals("first" + System.lineSeparator() + "second" + System.lineSeparator(),
+                    outContent.toString());
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+
+    @Test
+    public void toFile_outputPastBufferLimit_allLinesWritten() throws IOException {
+        Path file = File.createTempFile("output", ".txt").toPath();
+        OutputSink sink = OutputSink.toFile(file);
+        String line = "x".repeat(99);
+        int lineCount = OutputSink.BUFFER_LIMIT / 50;
+        for (int i = 0; i < lineCount; i++) {
+            sink.println(line);
+        }
+        sink.close();
+        assertEquals(lineCount, Files.readAllLines(file).size());
+        Files.delete(file);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.classes;
+
+import seedu.benchmark.Benchmark;
+import seedu.benchmark.SpendingGenerator;
+import seedu.type.SpendingList;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+/**
+ * Compares listing 100k spendings, as the {@code list} command does, when each line is written and flushed on its
+ * own against buffering the whole output in an {@link OutputSink}, and against streaming it to a file.
+ * The console is stood in for by a file behind a stream set up like {@link System#out}, which flushes each line.
+ */
+public class UiListBenchmark {
+    private static final int ENTRY_COUNT = 100_000;
+
+    /**
+     * Runs the benchmark on generated entries, printing to temporary files that are deleted afterwards.
+     */
+    public static void run() {
+        PrintStream originalOut = System.out;
+        try {
+            SpendingList spendings = createSpendings();
+            File consoleFile = File.createTempFile("console", ".txt");
+            File outputFile = File.createTempFile("output", ".txt");
+            consoleFile.deleteOnExit();
+            outputFile.deleteOnExit();
+            PrintStream console = new PrintStream(new BufferedOutputStream(new FileOutputStream(consoleFile), 128),
+                    true);
+
+            double perLineMillis = Benchmark.measure("list 100k, flushed per line",
+                    () -> list(spendings, console, OutputSink.toConsolePerLine(), originalOut));
+            double bufferedMillis = Benchmark.measure("list 100k, buffered per command",
+                    () -> list(spendings, console, OutputSink.toConsole(), originalOut));
+            Benchmark.printSpeedup("list 100k", perLineMillis, bufferedMillis);
+            double fileMillis = Benchmark.measure("list 100k, streamed to a file", () -> {
+                try (OutputSink sink = OutputSink.toFile(outputFile.toPath())) {
+                    return list(spendings, console, sink, originalOut);
+                }
+            });
+            Benchmark.printSpeedup("list 100k to a file", perLineMillis, fileMillis);
+            console.close();
+            consoleFile.delete();
+            outputFile.delete();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            Ui.setOutput(OutputSink.toConsolePerLine());
+        }
+    }
+
+    private static long list(SpendingList spendings, PrintStream console, OutputSink sink, PrintStream originalOut) {
+        System.setOut(console);
+        try {
+            Ui.setOutput(sink);
+            Ui.printArrList(spendings);
+            Ui.flushOutput();
+        } finally {
+            System.setOut(originalOut);
+        }
+        return spendings.size();
+    }
+
+    private static SpendingList createSpendings() {
+        SpendingList spendings = new SpendingList();
+        spendings.addAll(SpendingGenerator.createSpendings(ENTRY_COUNT, LocalDate.of(2000, 1, 1), 9000, false));
+        return spendings;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.recurrence;
+
+import seedu.benchmark.Benchmark;
+import seedu.benchmark.SpendingGenerator;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares backfilling three years of recurrences for 500 recurring spendings one recurring spending at a
+ * time, each with its own merge into the list, against backfilling all of them in a single batch.
+ */
+public class RecurrenceBackfillBenchmark {
+    private static final LocalDate TODAY = LocalDate.of(2024, 10, 15);
+    private static final int TEMPLATE_COUNT = 500;
+    private static final int EXISTING_ENTRY_COUNT = 50_000;
+    private static final int YEARS = 3;
+    private static final RecurrenceFrequency[] FREQUENCIES = {
+        RecurrenceFrequency.DAILY, RecurrenceFrequency.MONTHLY, RecurrenceFrequency.MONTHLY,
+        RecurrenceFrequency.YEARLY
+    };
+
+    /**
+     * Runs the benchmark on a generated list of spendings.
+     */
+    public static void run() {
+        LocalDate today = TODAY;
+        double oneByOneMillis = Benchmark.measure("backfill 500 templates x 3 years, one by one", () -> {
+            SpendingList spendings = createSpendings(today);
+            for (Spending template : getTemplates(spendings)) {
+                RecurrenceBackfill.backfill(spendings, List.of(template), today, true);
+            }
+            return spendings.size();
+        });
+        double batchMillis = Benchmark.measure("backfill 500 templates x 3 years, batched", () -> {
+            SpendingList spendings = createSpendings(today);
+            RecurrenceBackfill.backfill(spendings, getTemplates(spendings), today, true);
+            return spendings.size();
+        });
+        Benchmark.printSpeedup("backfill 500 templates x 3 years", oneByOneMillis, batchMillis);
+    }
+
+    private static SpendingList createSpendings(LocalDate today) {
+        Random random = new Random(1);
+        LocalDate start = today.minusYears(YEARS);
+        ArrayList<Spending> entries = SpendingGenerator.createSpendings(EXISTING_ENTRY_COUNT, start, YEARS * 365,
+                false);
+        for (int i = 0; i < TEMPLATE_COUNT; i++) {
+            LocalDate date = start.plusDays(random.nextInt(28));
+            entries.add(new Spending(10, "subscription " + i, date, "", FREQUENCIES[i % FREQUENCIES.length], date,
+                    date.getDayOfMonth()));
+        }
+        SpendingList spendings = new SpendingList();
+        spendings.addAll(entries);
+        return spendings;
+    }
+
+    private static ArrayList<Spending> getTemplates(SpendingList spendings) {
+        ArrayList<Spending> templates = new ArrayList<>();
+        for (Spending spending : spendings) {
+            if (spending.getRecurrenceFrequency() != RecurrenceFrequency.NONE) {
+                templates.add(spending);
+            }
+        }
+        return templates;
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.Income;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.classes.Constants.VALID_TEST_DATE;
+
+public class AtomicFileWriterTest {
+    private static final Income SALARY = new Income(10, "salary", VALID_TEST_DATE, "", RecurrenceFrequency.NONE,
+            null, 1);
+
+    @Test
+    public void write_firstLineAndEntries_replacesFile() throws IOException {
+        Path file = File.createTempFile("incomes", ".txt").toPath();
+        Files.writeString(file, "old contents");
+        AtomicFileWriter.write(file, "0|0|0", List.of(SALARY));
+        assertEquals(List.of("0|0|0", EntryFormatter.toStorageString(SALARY)), Files.readAllLines(file));
+        assertFalse(Files.exists(Path.of(file + ".tmp")));
+        Files.delete(file);
+    }
+
+    @Test
+    public void write_failsPartWay_leavesFileUnchanged() throws IOException {
+        Path file = File.createTempFile("incomes", ".txt").toPath();
+        Files.writeString(file, "old contents");
+        Iterable<Income> failingEntries = () -> new Iterator<>() {
+            private boolean hasReturned = false;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Income next() {
+                if (hasReturned) {
+                    throw new IllegalStateException("failed part way");
+                }
+                hasReturned = true;
+                return SALARY;
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> AtomicFileWriter.write(file, null, failingEntries));
+        assertEquals("old contents", Files.readString(file));
+        assertFalse(Files.exists(Path.of(file + ".tmp")));
+        Files.delete(file);
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.Income;
+import seedu.type.Spending;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.classes.Constants.VALID_TEST_DATE;
+
+public class BinaryLedgerFileTest {
+    @Test
+    public void read_writtenSpendings_sameEntriesAndBudgets() throws IOException {
+        Path file = File.createTempFile("spendings", ".bin").toPath();
+        List<Spending> spendings = List.of(
+                new Spending(12.5, "rent", VALID_TEST_DATE, "home", RecurrenceFrequency.MONTHLY, VALID_TEST_DATE, 31),
+                new Spending(0.01, "gum", VALID_TEST_DATE.plusDays(1), "", RecurrenceFrequency.NONE, null, 1),
+                new Spending(3, "rent", VALID_TEST_DATE.plusDays(2), "home", RecurrenceFrequency.NONE, null, 2));
+        BinaryLedgerFile.write(file, BinaryLedgerFile.SPENDINGS, new long[]{500, 10000, 0}, spendings);
+
+        ParsedStorageFile<Spending> parsedFile = BinaryLedgerFile.read(file, BinaryLedgerFile.SPENDINGS,
+                Spending::new);
+        assertEquals("5|100|0", parsedFile.getFirstLine());
+        assertEquals(0, parsedFile.getCorruptedLines().size());
+        assertEquals(toStorageStrings(spendings), toStorageStrings(parsedFile.getEntries()));
+
+        ParsedStorageFile<Spending> streamedFile = BinaryLedgerFile.readStream(file, BinaryLedgerFile.SPENDINGS,
+                Spending::new);
+        assertEquals(parsedFile.getFirstLine(), streamedFile.getFirstLine());
+        assertEquals(toStorageStrings(parsedFile.getEntries()), toStorageStrings(streamedFile.getEntries()));
+        Files.delete(file);
+    }
+
+    @Test
+    public void read_damagedBlock_onlyEntriesOfBlockReported() throws IOException {
+        Path file = File.createTempFile("incomes", ".bin").toPath();
+        ArrayList<Income> incomes = new ArrayList<>();
+        for (int i = 0; i < BinaryLedgerFile.BLOCK_RECORDS + 10; i++) {
+            incomes.add(new Income(i + 1, "pay", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        }
+        BinaryLedgerFile.write(file, BinaryLedgerFile.INCOMES, null, incomes);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 20] ^= 1;
+        Files.write(file, bytes);
+
+        ParsedStorageFile<Income> parsedFile = BinaryLedgerFile.read(file, BinaryLedgerFile.INCOMES, Income::new);
+        assertNull(parsedFile.getFirstLine());
+        assertEquals(BinaryLedgerFile.BLOCK_RECORDS, parsedFile.getEntries().size());
+        assertEquals(1, parsedFile.getCorruptedLines().size());
+        assertEquals(BinaryLedgerFile.BLOCK_RECORDS + 1, parsedFile.getCorruptedLines().get(0).lineNumber);
+        Files.delete(file);
+    }
+
+    @Test
+    public void read_fileCutInLastBlock_entriesOfEarlierBlocksKept() throws IOException {
+        Path file = File.createTempFile("incomes", ".bin").toPath();
+        ArrayList<Income> incomes = new ArrayList<>();
+        for (int i = 0; i < BinaryLedgerFile.BLOCK_RECORDS + 10; i++) {
+            incomes.add(new Income(i + 1, "pay", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        }
+        BinaryLedgerFile.write(file, BinaryLedgerFile.INCOMES, null, incomes);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+
+        ParsedStorageFile<Income> parsedFile = BinaryLedgerFile.read(file, BinaryLedgerFile.INCOMES, Income::new);
+        ParsedStorageFile<Income> streamedFile = BinaryLedgerFile.readStream(file, BinaryLedgerFile.INCOMES,
+                Income::new);
+        for (ParsedStorageFile<Income> readFile : List.of(parsedFile, streamedFile)) {
+            assertEquals(BinaryLedgerFile.BLOCK_RECORDS, readFile.getEntries().size());
+            assertEquals(1, readFile.getCorruptedLines().size());
+            assertEquals(BinaryLedgerFile.BLOCK_RECORDS + 1, readFile.getCorruptedLines().get(0).lineNumber);
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    public void read_fileCutInHeader_exceptionThrown() throws IOException {
+        Path file = File.createTempFile("incomes", ".bin").toPath();
+        BinaryLedgerFile.write(file, BinaryLedgerFile.INCOMES, null, List.of());
+        Files.write(file, Arrays.copyOf(Files.readAllBytes(file), BinaryLedgerFile.HEADER_SIZE));
+        assertThrows(IOException.class, () -> BinaryLedgerFile.read(file, BinaryLedgerFile.INCOMES, Income::new));
+        Files.delete(file);
+    }
+
+    @Test
+    public void write_descriptionLongerThanLimit_exceptionThrownAndFileUnchanged() throws IOException {
+        Path file = File.createTempFile("incomes", ".bin").toPath();
+        Income longIncome = new Income(1, "x".repeat(BinaryLedgerFile.MAX_STRING_BYTES + 1), VALID_TEST_DATE, "",
+                RecurrenceFrequency.NONE, null, 1);
+        Income pay = new Income(2, "pay", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1);
+        BinaryLedgerFile.write(file, BinaryLedgerFile.INCOMES, null, List.of(pay));
+        byte[] bytes = Files.readAllBytes(file);
+
+        assertFalse(BinaryLedgerFile.canWrite(longIncome));
+        assertThrows(IOException.class, () -> BinaryLedgerFile.write(file, BinaryLedgerFile.INCOMES, null,
+                List.of(pay, longIncome)));
+        assertArrayEquals(bytes, Files.readAllBytes(file));
+        Files.delete(file);
+    }
+
+    @Test
+    public void read_otherKindOfEntries_exceptionThrown() throws IOException {
+        Path file = File.createTempFile("incomes", ".bin").toPath();
+        BinaryLedgerFile.write(file, BinaryLedgerFile.INCOMES, null, List.of());
+        assertThrows(IOException.class, () -> BinaryLedgerFile.read(file, BinaryLedgerFile.SPENDINGS,
+                Spending::new));
+        Files.delete(file);
+    }
+
+    private static List<String> toStorageStrings(List<Spending> spendings) {
+        ArrayList<String> storageStrings = new ArrayList<>();
+        for (Spending spending : spendings) {
+            storageStrings.add(EntryFormatter.toStorageString(spending));
+        }
+        return storageStrings;
+    }
+}
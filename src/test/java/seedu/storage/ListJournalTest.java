@@ -0,0 +1,147 @@
+package seedu.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.Income;
+import seedu.type.IncomeList;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classes.Constants.VALID_TEST_DATE;
+
+public class ListJournalTest {
+    @AfterEach
+    public void restore() {
+        IncomeListStorage.journal.clear();
+        SpendingListStorage.journal.clear();
+        new File(IncomeListStorage.INCOMES_FILE_PATH).delete();
+        new File(SpendingListStorage.SPENDINGS_FILE_PATH).delete();
+        Storage.incomes = new IncomeList();
+        Storage.spendings = new SpendingList();
+    }
+
+    @Test
+    public void saveChanges_addAndRemoveIncome_replayedOnLoad() {
+        IncomeList incomes = new IncomeList();
+        incomes.add(new Income(10, "savings", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        IncomeListStorage.save(incomes);
+        incomes.setObserver(IncomeListStorage.journal);
+        incomes.add(new Income(20, "bonus", VALID_TEST_DATE.minusDays(1), "", RecurrenceFrequency.NONE, null, 1));
+        incomes.remove(1);
+        IncomeListStorage.saveChanges(incomes);
+        assertTrue(new File(IncomeListStorage.INCOMES_JOURNAL_PATH).exists());
+
+        Storage.incomes = new IncomeList();
+        IncomeListStorage.load();
+        assertEquals(1, Storage.incomes.size());
+        assertEquals("bonus", Storage.incomes.get(0).getDescription());
+    }
+
+    @Test
+    public void saveChanges_budgetAndEdit_replayedOnLoad() {
+        SpendingList spendings = new SpendingList();
+        spendings.add(new Spending(10, "macs", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        SpendingListStorage.save(spendings);
+        spendings.setObserver(SpendingListStorage.journal);
+        spendings.setDailyBudget(15);
+        spendings.editEntry(spendings.get(0), entry -> entry.editDescription("kfc"));
+        SpendingListStorage.saveChanges(spendings);
+
+        Storage.spendings = new SpendingList();
+        SpendingListStorage.load();
+        assertEquals(1, Storage.spendings.size());
+        assertEquals("kfc", Storage.spendings.get(0).getDescription());
+        assertEquals(15, Storage.spendings.getDailyBudget());
+    }
+
+    @Test
+    public void load_journalLeftAfterSave_oldRecordsNotReplayed() throws IOException {
+        IncomeList incomes = new IncomeList();
+        incomes.add(new Income(10, "savings", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        IncomeListStorage.save(incomes);
+        incomes.setObserver(IncomeListStorage.journal);
+        incomes.add(new Income(20, "bonus", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        IncomeListStorage.saveChanges(incomes);
+        Path journalPath = Paths.get(IncomeListStorage.INCOMES_JOURNAL_PATH);
+        String oldRecords = Files.readString(journalPath);
+        IncomeListStorage.save(incomes);
+        Files.writeString(journalPath, oldRecords);
+
+        Storage.incomes = new IncomeList();
+        IncomeListStorage.load();
+        assertEquals(2, Storage.incomes.size());
+        incomes.add(new Income(30, "gift", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        IncomeListStorage.saveChanges(incomes);
+        Storage.incomes = new IncomeList();
+        IncomeListStorage.load();
+        assertEquals(3, Storage.incomes.size());
+    }
+
+    @Test
+    public void save_pendingJournal_journalDiscarded() {
+        IncomeList incomes = new IncomeList();
+        incomes.setObserver(IncomeListStorage.journal);
+        incomes.add(new Income(10, "savings", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        IncomeListStorage.save(incomes);
+        IncomeListStorage.saveChanges(incomes);
+        assertFalse(new File(IncomeListStorage.INCOMES_JOURNAL_PATH).exists());
+    }
+
+    @Test
+    public void saveChanges_unchangedList_nothingWritten() throws IOException {
+        SpendingList spendings = new SpendingList();
+        spendings.add(new Spending(10, "macs", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        SpendingListStorage.save(spendings);
+        spendings.setObserver(SpendingListStorage.journal);
+        File journalFile = new File(SpendingListStorage.SPENDINGS_JOURNAL_PATH);
+        SpendingListStorage.journal.addRecord(ListJournal.BUDGET_RECORD, "1|2|3");
+        SpendingListStorage.saveChanges(spendings);
+        assertFalse(journalFile.exists());
+
+        spendings.setDailyBudget(15);
+        SpendingListStorage.saveChanges(spendings);
+        assertTrue(journalFile.exists());
+        long journalLength = Files.size(journalFile.toPath());
+        SpendingListStorage.saveChanges(spendings);
+        assertEquals(journalLength, Files.size(journalFile.toPath()));
+    }
+
+    @Test
+    public void writeQueuedChanges_changedAfterQueueing_onlyQueuedChangesWritten() throws Exception {
+        IncomeList incomes = new IncomeList();
+        IncomeListStorage.save(incomes);
+        incomes.setObserver(IncomeListStorage.journal);
+        incomes.add(new Income(10, "savings", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        IncomeListStorage.queueChanges(incomes);
+        incomes.add(new Income(20, "bonus", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        Thread autosaveThread = new Thread(() -> {
+            try {
+                IncomeListStorage.writeQueuedChanges();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        autosaveThread.start();
+        autosaveThread.join();
+
+        Storage.incomes = new IncomeList();
+        IncomeListStorage.load();
+        assertEquals(1, Storage.incomes.size());
+        assertEquals("savings", Storage.incomes.get(0).getDescription());
+
+        IncomeListStorage.saveChanges(incomes);
+        Storage.incomes = new IncomeList();
+        IncomeListStorage.load();
+        assertEquals(2, Storage.incomes.size());
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.exception.WiagiStorageCorruptedException;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.EntryType;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoadStorageCheckTest {
+    private final LoadStorageCheck check = new LoadStorageCheck("spending");
+
+    @Test
+    public void parseEntry_validLine_allFieldsParsed() {
+        EntryType entry = check.parseEntry("12.5|lunch|2024-03-01|food|MONTHLY|2024-03-01|1");
+        assertEquals(12.5, entry.getAmount());
+        assertEquals("lunch", entry.getDescription());
+        assertEquals(LocalDate.of(2024, 3, 1), entry.getDate());
+        assertEquals("food", entry.getTag());
+        assertEquals(RecurrenceFrequency.MONTHLY, entry.getRecurrenceFrequency());
+        assertEquals(LocalDate.of(2024, 3, 1), entry.getLastRecurrence());
+        assertEquals(1, entry.getDayOfRecurrence());
+    }
+
+    @Test
+    public void parseEntry_amountInExponentForm_parsedAndRounded() {
+        EntryType entry = check.parseEntry("1.0E2|x|2024-03-01||NONE|null|1");
+        assertEquals(100.0, entry.getAmount());
+        assertEquals(0.01, check.parseEntry("0.005|x|2024-03-01||NONE|null|1").getAmount());
+        assertNull(entry.getLastRecurrence());
+    }
+
+    @Test
+    public void parseEntry_trailingSeparators_ignored() {
+        assertEquals(1, check.parseEntry("3.0|x|2024-03-01||NONE|null|1||").getDayOfRecurrence());
+    }
+
+    @Test
+    public void parseEntry_wrongFieldCount_exceptionThrown() {
+        assertThrows(WiagiStorageCorruptedException.class, () -> check.parseEntry("3.0|x|2024-03-01||NONE|null"));
+        assertThrows(WiagiStorageCorruptedException.class, () -> check.parseEntry("3.0|x|2024-03-01||NONE|null|"));
+        assertThrows(WiagiStorageCorruptedException.class,
+                () -> check.parseEntry("3.0|x|2024-03-01||NONE|null|1|2"));
+    }
+
+    @Test
+    public void parseEntry_invalidDates_exceptionThrown() {
+        assertThrows(WiagiStorageCorruptedException.class, () -> check.parseEntry("3.0|x|2024-02-30||NONE|null|1"));
+        assertThrows(WiagiStorageCorruptedException.class,
+                () -> check.parseEntry("3.0|x|2024-02-01||DAILY|2024-0x-01|1"));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParsedStorageFileTest {
+    private static final Function<String, Spending> PARSER =
+            line -> (Spending) new LoadStorageCheck("spending").parseEntry(line);
+
+    @Test
+    public void parseInParallel_unorderedLinesWithCorruptedLines_sameAsParse() {
+        List<String> lines = createLines(ParsedStorageFile.CHUNK_SIZE * 5 + 17);
+        ParsedStorageFile<Spending> sequential = ParsedStorageFile.parse("0|0|0", lines, PARSER);
+        ParsedStorageFile<Spending> parallel = ParsedStorageFile.parseInParallel("0|0|0", lines, PARSER,
+                new ForkJoinPool(4));
+
+        assertEquals("0|0|0", parallel.getFirstLine());
+        assertEquals(toLineNumbers(sequential), toLineNumbers(parallel));
+        SpendingList sequentialList = new SpendingList();
+        sequentialList.addAll(sequential.getEntries());
+        SpendingList parallelList = new SpendingList();
+        parallelList.addAll(parallel.getEntries());
+        assertEquals(toStorageStrings(sequentialList), toStorageStrings(parallelList));
+    }
+
+    private static List<String> createLines(int count) {
+        Random random = new Random(1);
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        ArrayList<String> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(100) == 0) {
+                lines.add("corrupted|line " + i);
+                continue;
+            }
+            Spending spending = new Spending(i + 1, "item " + i, start.plusDays(random.nextInt(30)), "",
+                    RecurrenceFrequency.NONE, null, 1);
+            lines.add(EntryFormatter.toStorageString(spending));
+        }
+        return lines;
+    }
+
+    private static List<Integer> toLineNumbers(ParsedStorageFile<Spending> parsedFile) {
+        ArrayList<Integer> lineNumbers = new ArrayList<>();
+        for (ParsedStorageFile.CorruptedLine corruptedLine : parsedFile.getCorruptedLines()) {
+            lineNumbers.add(corruptedLine.lineNumber);
+        }
+        return lineNumbers;
+    }
+
+    private static List<String> toStorageStrings(SpendingList spendings) {
+        ArrayList<String> storageStrings = new ArrayList<>();
+        for (Spending spending : spendings) {
+            storageStrings.add(EntryFormatter.toStorageString(spending));
+        }
+        return storageStrings;
+    }
+}
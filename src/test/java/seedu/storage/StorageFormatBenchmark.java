@@ -0,0 +1,59 @@
+package seedu.storage;
+
+import seedu.benchmark.Benchmark;
+import seedu.benchmark.SpendingGenerator;
+import seedu.type.Spending;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+/**
+ * Compares saving and loading one million spendings in the text format against the binary format of
+ * {@link BinaryLedgerFile}, along with the size of each file.
+ */
+public class StorageFormatBenchmark {
+    private static final int ENTRY_COUNT = 1_000_000;
+    private static final long[] BUDGETS_IN_CENTS = {1000, 50000, 600000};
+
+    /**
+     * Runs the benchmark on generated entries, writing to files that are deleted afterwards.
+     */
+    public static void run() {
+        try {
+            ArrayList<Spending> spendings = SpendingGenerator.createSpendings(ENTRY_COUNT, LocalDate.of(2000, 1, 1),
+                    9000, true);
+            Path textFile = File.createTempFile("spendings", ".txt").toPath();
+            Path binaryFile = File.createTempFile("spendings", ".bin").toPath();
+            textFile.toFile().deleteOnExit();
+            binaryFile.toFile().deleteOnExit();
+            String budgetDetails = EntryFormatter.toBudgetString(BUDGETS_IN_CENTS[0], BUDGETS_IN_CENTS[1],
+                    BUDGETS_IN_CENTS[2]);
+
+            double textSaveMillis = Benchmark.measure("save 1M entries, text", () -> {
+                AtomicFileWriter.write(textFile, budgetDetails, spendings);
+                return Files.size(textFile);
+            });
+            double binarySaveMillis = Benchmark.measure("save 1M entries, binary", () -> {
+                BinaryLedgerFile.write(binaryFile, BinaryLedgerFile.SPENDINGS, BUDGETS_IN_CENTS, spendings);
+                return Files.size(binaryFile);
+            });
+            Benchmark.printSpeedup("save 1M entries", textSaveMillis, binarySaveMillis);
+            System.out.printf("%-50s %10.1f MB text, %.1f MB binary%n", "1M entries, file size",
+                    Files.size(textFile) / 1e6, Files.size(binaryFile) / 1e6);
+
+            double textLoadMillis = Benchmark.measure("load 1M entries, text",
+                    () -> SpendingListStorage.readFile(textFile.toFile(), null).getEntries().size());
+            double binaryLoadMillis = Benchmark.measure("load 1M entries, binary", () -> BinaryLedgerFile.read(
+                    binaryFile, BinaryLedgerFile.SPENDINGS, Spending::new).getEntries().size());
+            Benchmark.printSpeedup("load 1M entries", textLoadMillis, binaryLoadMillis);
+            Files.delete(textFile);
+            Files.delete(binaryFile);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StorageFormatConverterTest {
+    @Test
+    public void toText_convertedToBinary_sameTextWithoutCorruptedEntries() throws IOException {
+        Path textFile = File.createTempFile("spendings", ".txt").toPath();
+        Path binaryFile = File.createTempFile("spendings", ".bin").toPath();
+        Files.write(textFile, List.of("5|100|1000.5", "12.5|rent|2024-10-01|home|MONTHLY|2024-10-01|1",
+                "not an entry", "3|gum|2024-10-02||NONE|null|2"));
+
+        assertEquals(1, StorageFormatConverter.toBinary(textFile, binaryFile, true));
+        assertEquals(0, StorageFormatConverter.toText(binaryFile, textFile, true));
+        assertEquals(List.of("5|100|1000.50", "12.50|rent|2024-10-01|home|MONTHLY|2024-10-01|1",
+                "3|gum|2024-10-02||NONE|null|2"), Files.readAllLines(textFile));
+        Files.delete(textFile);
+        Files.delete(binaryFile);
+    }
+}
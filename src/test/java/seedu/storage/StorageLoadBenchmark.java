@@ -0,0 +1,107 @@
+package seedu.storage;
+
+import seedu.benchmark.Benchmark;
+import seedu.benchmark.SpendingGenerator;
+import seedu.commands.CommandUtils;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares loading a spendings file of one million entries with the previous Scanner and split based parsing
+ * against the buffered reader and single-pass parser now used by the storage classes, parsing the file on one
+ * thread and in chunks on the common fork-join pool.
+ */
+public class StorageLoadBenchmark {
+    private static final int ENTRY_COUNT = 1_000_000;
+
+    /**
+     * Runs the benchmark on a generated file that is deleted afterwards.
+     */
+    public static void run() {
+        try {
+            File file = File.createTempFile("spendings", ".txt");
+            file.deleteOnExit();
+            writeEntries(file);
+            double oldMillis = Benchmark.measure("load 1M entries, Scanner and split", () -> loadWithScanner(file));
+            double newMillis = Benchmark.measure("load 1M entries, StorageReader", () -> loadWithReader(file));
+            Benchmark.printSpeedup("load 1M entries", oldMillis, newMillis);
+            double parallelMillis = Benchmark.measure("load 1M entries, StorageReader, parsed in chunks",
+                    () -> loadInChunks(file));
+            Benchmark.printSpeedup("load 1M entries in chunks", newMillis, parallelMillis);
+            file.delete();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeEntries(File file) throws IOException {
+        ArrayList<Spending> spendings = SpendingGenerator.createSpendings(ENTRY_COUNT, LocalDate.of(2000, 1, 1),
+                9000, true);
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            writer.write("0.0|0.0|0.0");
+            writer.newLine();
+            for (Spending spending : spendings) {
+                writer.write(EntryFormatter.toStorageString(spending));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static int loadWithScanner(File file) throws IOException {
+        ArrayList<Spending> entries = new ArrayList<>();
+        try (Scanner scanner = new Scanner(file)) {
+            scanner.nextLine();
+            while (scanner.hasNext()) {
+                String[] fields = scanner.nextLine().split("\\|");
+                LocalDate lastRecurred = fields[5].equals("null") ? null : LocalDate.parse(fields[5]);
+                entries.add(new Spending(CommandUtils.formatAmount(fields[0], ""), fields[1],
+                        LocalDate.parse(fields[2]), fields[3], RecurrenceFrequency.valueOf(fields[4]), lastRecurred,
+                        Integer.parseInt(fields[6])));
+            }
+        }
+        SpendingList spendings = new SpendingList();
+        spendings.addAll(entries);
+        return spendings.size();
+    }
+
+    private static int loadWithReader(File file) throws IOException {
+        LoadStorageCheck check = new LoadStorageCheck("spending");
+        ArrayList<Spending> entries = new ArrayList<>();
+        try (StorageReader reader = new StorageReader(file)) {
+            reader.nextLine();
+            while (reader.hasNext()) {
+                entries.add((Spending) check.parseEntry(reader.nextLine()));
+            }
+        }
+        SpendingList spendings = new SpendingList();
+        spendings.addAll(entries);
+        return spendings.size();
+    }
+
+    private static int loadInChunks(File file) throws IOException {
+        LoadStorageCheck check = new LoadStorageCheck("spending");
+        ArrayList<String> lines = new ArrayList<>();
+        String budgetDetails;
+        try (StorageReader reader = new StorageReader(file)) {
+            budgetDetails = reader.nextLine();
+            while (reader.hasNext()) {
+                lines.add(reader.nextLine());
+            }
+        }
+        ParsedStorageFile<Spending> parsedFile = ParsedStorageFile.parseInParallel(budgetDetails, lines,
+                line -> (Spending) check.parseEntry(line), ForkJoinPool.commonPool());
+        SpendingList spendings = new SpendingList();
+        spendings.addAll(parsedFile.getEntries());
+        return spendings.size();
+    }
+}
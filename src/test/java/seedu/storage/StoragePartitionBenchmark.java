@@ -0,0 +1,79 @@
+package seedu.storage;
+
+import seedu.benchmark.Benchmark;
+import seedu.benchmark.SpendingGenerator;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+/**
+ * Compares startup with one, four and sixteen years of spendings kept in a single text file against keeping the
+ * past years in yearly segments through {@link YearPartitions}, where startup only loads the current year.
+ */
+public class StoragePartitionBenchmark {
+    private static final int ENTRIES_PER_YEAR = 20_000;
+    private static final int[] YEAR_COUNTS = {1, 4, 16};
+
+    /**
+     * Runs the benchmark on generated files that are deleted afterwards.
+     */
+    public static void run() {
+        try {
+            for (int yearCount : YEAR_COUNTS) {
+                runWithHistory(yearCount);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void runWithHistory(int yearCount) throws IOException {
+        Path directory = Files.createTempDirectory("partitions");
+        File textFile = directory.resolve("spendings.txt").toFile();
+        File partitionedTextFile = directory.resolve("partitioned.txt").toFile();
+        LocalDate start = LocalDate.now().withDayOfYear(1).minusYears(yearCount - 1);
+        ArrayList<Spending> spendings = SpendingGenerator.createSpendings(yearCount * ENTRIES_PER_YEAR, start,
+                yearCount * 365, true);
+        AtomicFileWriter.write(textFile.toPath(), "0|0|0", spendings);
+        YearPartitions<Spending> partitions = createPartitions(directory);
+        SpendingList partitionedSpendings = new SpendingList();
+        partitions.open(partitionedSpendings);
+        partitions.attach(partitionedSpendings);
+        partitionedSpendings.addAll(spendings);
+        AtomicFileWriter.write(partitionedTextFile.toPath(), "0|0|0",
+                partitions.saveSegments(partitionedSpendings));
+        partitions.finishSave();
+        spendings.clear();
+
+        String label = "startup with " + yearCount + " years of " + ENTRIES_PER_YEAR;
+        double textMillis = Benchmark.measure(label + ", one text file", () -> {
+            SpendingList loaded = new SpendingList();
+            loaded.addAll(SpendingListStorage.readFile(textFile, null).getEntries());
+            return loaded.size();
+        });
+        double partitionedMillis = Benchmark.measure(label + ", yearly segments", () -> {
+            SpendingList loaded = new SpendingList();
+            partitions.open(loaded);
+            loaded.addAll(partitions.removeSavedEntries(
+                    SpendingListStorage.readFile(partitionedTextFile, null).getEntries()));
+            return loaded.size();
+        });
+        Benchmark.printSpeedup(label, textMillis, partitionedMillis);
+        for (File file : directory.toFile().listFiles()) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(directory);
+    }
+
+    private static YearPartitions<Spending> createPartitions(Path directory) {
+        return new YearPartitions<>(directory.resolve("spendings.manifest").toString(),
+                directory.resolve("spendings-%d-%d.bin").toString(), BinaryLedgerFile.SPENDINGS, Spending::new,
+                new ListJournal<>(directory.resolve("spendings.journal").toString()), "");
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.storage;
+
+import seedu.benchmark.Benchmark;
+import seedu.benchmark.SpendingGenerator;
+import seedu.type.Spending;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+/**
+ * Compares saving one million spendings with the previous FileWriter, which wrote each line straight to the
+ * storage file, against the buffered writer that writes to a temporary file, forces it to disk and renames it.
+ */
+public class StorageSaveBenchmark {
+    private static final int ENTRY_COUNT = 1_000_000;
+
+    /**
+     * Runs the benchmark on generated entries, writing to a file that is deleted afterwards.
+     */
+    public static void run() {
+        try {
+            ArrayList<Spending> spendings = SpendingGenerator.createSpendings(ENTRY_COUNT, LocalDate.of(2000, 1, 1),
+                    9000, true);
+            File file = File.createTempFile("spendings", ".txt");
+            file.deleteOnExit();
+            double oldMillis = Benchmark.measure("save 1M entries, FileWriter", () -> saveWithFileWriter(file,
+                    spendings));
+            double newMillis = Benchmark.measure("save 1M entries, AtomicFileWriter", () -> {
+                AtomicFileWriter.write(file.toPath(), "0|0|0", spendings);
+                return file.length();
+            });
+            Benchmark.printSpeedup("save 1M entries", oldMillis, newMillis);
+            file.delete();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long saveWithFileWriter(File file, ArrayList<Spending> spendings) throws IOException {
+        FileWriter fw = new FileWriter(file);
+        fw.write("0|0|0" + System.lineSeparator());
+        for (Spending spending : spendings) {
+            fw.write(EntryFormatter.toStorageString(spending) + System.lineSeparator());
+        }
+        fw.close();
+        return file.length();
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.Income;
+import seedu.type.IncomeList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classes.Constants.VALID_TEST_DATE;
+
+public class YearPartitionsTest {
+    private static final LocalDate LAST_YEAR = VALID_TEST_DATE.minusYears(1);
+    private static final LocalDate TWO_YEARS_AGO = VALID_TEST_DATE.minusYears(2);
+
+    @Test
+    public void saveSegments_pastYears_loadedWhenNeeded() throws IOException {
+        Path directory = Files.createTempDirectory("partitions");
+        YearPartitions<Income> partitions = createPartitions(directory);
+        IncomeList incomes = new IncomeList();
+        partitions.open(incomes);
+        partitions.attach(incomes);
+        incomes.add(new Income(10, "pay", TWO_YEARS_AGO, "", RecurrenceFrequency.NONE, null, 1));
+        incomes.add(new Income(20, "rent", TWO_YEARS_AGO, "", RecurrenceFrequency.MONTHLY, TWO_YEARS_AGO, 1));
+        incomes.add(new Income(30, "bonus", LAST_YEAR, "", RecurrenceFrequency.NONE, null, 1));
+        incomes.add(new Income(40, "pay", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        ArrayList<Income> textEntries = partitions.saveSegments(incomes);
+        partitions.finishSave();
+        assertEquals(2, textEntries.size());
+        assertEquals("rent", textEntries.get(0).getDescription());
+        assertFalse(partitions.isSaveDue());
+
+        IncomeList reloaded = new IncomeList();
+        partitions.open(reloaded);
+        reloaded.addAll(partitions.removeSavedEntries(textEntries));
+        partitions.attach(reloaded);
+        assertEquals(2, reloaded.size());
+        assertEquals(2, partitions.countNotLoaded());
+        assertEquals(LAST_YEAR.withDayOfYear(1), partitions.findLatestNotLoaded());
+        assertEquals(1, reloaded.loadHistoryFrom(LAST_YEAR.withDayOfYear(1)));
+        assertEquals(3, reloaded.size());
+        reloaded.loadHistory();
+        reloaded.loadHistory();
+        assertEquals(4, reloaded.size());
+        assertEquals(0, partitions.countNotLoaded());
+        assertEquals(TWO_YEARS_AGO, reloaded.get(1).getDate());
+        assertEquals(textEntries, partitions.saveSegments(reloaded));
+        deleteAll(directory);
+    }
+
+    @Test
+    public void removeSavedEntries_interruptedSave_noDuplicates() throws IOException {
+        Path directory = Files.createTempDirectory("partitions");
+        YearPartitions<Income> partitions = createPartitions(directory);
+        IncomeList incomes = new IncomeList();
+        partitions.open(incomes);
+        incomes.add(new Income(10, "pay", LAST_YEAR, "", RecurrenceFrequency.NONE, null, 1));
+        incomes.add(new Income(40, "pay", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 1));
+        ArrayList<Income> oldTextEntries = new ArrayList<>(incomes);
+        assertEquals(2, partitions.removeSavedEntries(oldTextEntries).size());
+        assertTrue(partitions.isSaveDue());
+        partitions.saveSegments(incomes);
+
+        IncomeList reloaded = new IncomeList();
+        partitions.open(reloaded);
+        assertTrue(partitions.hasInterruptedSave());
+        assertTrue(partitions.isSaved(oldTextEntries.get(0)));
+        reloaded.addAll(partitions.removeSavedEntries(oldTextEntries));
+        partitions.attach(reloaded);
+        reloaded.loadHistory();
+        assertEquals(2, reloaded.size());
+        deleteAll(directory);
+    }
+
+    @Test
+    public void saveSegments_descriptionTooLongForSegment_keptInTextFile() throws IOException {
+        Path directory = Files.createTempDirectory("partitions");
+        YearPartitions<Income> partitions = createPartitions(directory);
+        IncomeList incomes = new IncomeList();
+        partitions.open(incomes);
+        partitions.attach(incomes);
+        Income longIncome = new Income(10, "x".repeat(BinaryLedgerFile.MAX_STRING_BYTES + 1), LAST_YEAR, "",
+                RecurrenceFrequency.NONE, null, 1);
+        incomes.add(longIncome);
+        incomes.add(new Income(20, "pay", LAST_YEAR, "", RecurrenceFrequency.NONE, null, 1));
+        ArrayList<Income> textEntries = partitions.saveSegments(incomes);
+        partitions.finishSave();
+        assertEquals(List.of(longIncome), textEntries);
+        assertFalse(partitions.isSaveDue());
+
+        IncomeList reloaded = new IncomeList();
+        partitions.open(reloaded);
+        reloaded.addAll(partitions.removeSavedEntries(textEntries));
+        partitions.attach(reloaded);
+        reloaded.loadHistory();
+        assertEquals(2, reloaded.size());
+        assertFalse(partitions.isSaveDue());
+        deleteAll(directory);
+    }
+
+    private static YearPartitions<Income> createPartitions(Path directory) {
+        return new YearPartitions<>(directory.resolve("incomes.manifest").toString(),
+                directory.resolve("incomes-%d-%d.bin").toString(), BinaryLedgerFile.INCOMES, Income::new,
+                new ListJournal<>(directory.resolve("incomes.journal").toString()), "");
+    }
+
+    private static void deleteAll(Path directory) throws IOException {
+        for (File file : directory.toFile().listFiles()) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.type;
+
+import seedu.benchmark.Benchmark;
+import seedu.recurrence.RecurrenceFrequency;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Compares finding entries by description with a scan of every entry against a lookup in the description index.
+ */
+public class DescriptionSearchBenchmark {
+    private static final int ENTRY_COUNT = 200_000;
+    private static final String[] WORDS = {"coffee", "lunch", "dinner", "grab", "taxi", "rent", "netflix", "gym",
+        "groceries", "bubble tea", "movie", "concert", "books", "phone bill", "insurance", "haircut"};
+    private static final String[] QUERIES = {"coffee", "tea", "bill 12", "taxi 999", "concert 4", "xyz"};
+
+    /**
+     * Runs the benchmark on a generated list of spendings.
+     */
+    public static void run() {
+        Random random = new Random(1);
+        ArrayList<Spending> entries = new ArrayList<>();
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(1000);
+            entries.add(new Spending(10, description, start.plusDays(random.nextInt(9000)), "",
+                    RecurrenceFrequency.NONE, null, 1));
+        }
+        SpendingList spendings = new SpendingList();
+        Benchmark.measure("index 200k descriptions", () -> {
+            SpendingList list = new SpendingList();
+            list.addAll(entries);
+            return list.size();
+        });
+        spendings.addAll(entries);
+
+        for (String query : QUERIES) {
+            double scanMillis = Benchmark.measure("find \"" + query + "\", scan", () -> {
+                int count = 0;
+                for (Spending spending : spendings) {
+                    if (spending.getDescription().contains(query)) {
+                        count++;
+                    }
+                }
+                return count;
+            });
+            double indexMillis = Benchmark.measure("find \"" + query + "\", index",
+                    () -> spendings.findByDescription(query).size());
+            Benchmark.printSpeedup("find \"" + query + "\"", scanMillis, indexMillis);
+        }
+    }
+}
@@ -3,12 +3,23 @@ package seedu.type;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.classes.WiagiClock;
+import seedu.recurrence.RecurrenceFrequency;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SpendingListTest {
 
@@ -43,6 +54,7 @@ public class SpendingListTest {
     public void restore() {
         System.setOut(originalOut);
         System.setErr(originalErr);
+        WiagiClock.useSystemClock();
     }
 
     @Test
@@ -59,4 +71,293 @@ public class SpendingListTest {
     public void getYearlySpending_basicInputs_shouldReturnYearlySpendings() {
         assertEquals(yearlySpending, spendings.getYearlySpending(currentDate));
     }
+
+    @Test
+    public void getSpending_fixedClock_totalsForClockDate() {
+        WiagiClock.setClock(Clock.fixed(currentDate.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        assertEquals(currentDate, WiagiClock.getToday());
+        assertEquals(dailySpending, spendings.getDailySpending());
+        assertEquals(monthlySpending, spendings.getMonthlySpending());
+        assertEquals(yearlySpending, spendings.getYearlySpending());
+    }
+
+    @Test
+    public void add_backdatedEntry_insertedInDateOrder() {
+        Spending backdated = new Spending(5, "backdated", currentDate.minusMonths(5), null, null, null, 0);
+        spendings.add(backdated);
+        assertEquals(2, spendings.indexOf(backdated));
+        for (int i = 1; i < spendings.size(); i++) {
+            assertTrue(!spendings.get(i).getDate().isBefore(spendings.get(i - 1).getDate()));
+        }
+    }
+
+    @Test
+    public void add_sameDateEntries_keepsInsertionOrder() {
+        Spending first = new Spending(1, "first", currentDate, null, null, null, 0);
+        Spending second = new Spending(2, "second", currentDate, null, null, null, 0);
+        spendings.add(first);
+        spendings.add(second);
+        assertEquals(spendings.size() - 2, spendings.indexOf(first));
+        assertEquals(spendings.size() - 1, spendings.indexOf(second));
+    }
+
+    @Test
+    public void addAll_unsortedEntries_sortedByDateAndStable() {
+        SpendingList list = new SpendingList();
+        ArrayList<Spending> toAdd = new ArrayList<>();
+        toAdd.add(new Spending(1, "later", currentDate, null, null, null, 0));
+        toAdd.add(new Spending(2, "earlier", currentDate.minusDays(1), null, null, null, 0));
+        toAdd.add(new Spending(3, "laterAgain", currentDate, null, null, null, 0));
+        list.addAll(toAdd);
+        assertEquals("earlier", list.get(0).getDescription());
+        assertEquals("later", list.get(1).getDescription());
+        assertEquals("laterAgain", list.get(2).getDescription());
+    }
+
+    @Test
+    public void remove_backdatedEntryInserted_sameEntryRemoved() {
+        Spending inAll = spendings.get(5);
+        spendings.add(new Spending(5, "backdated", currentDate.minusYears(3), null, null, null, 0));
+        assertEquals(6, spendings.findIndexOf(inAll));
+
+        assertTrue(spendings.remove(inAll));
+        assertEquals(-1, spendings.findIndexOf(inAll));
+        assertFalse(spendings.remove(inAll));
+        assertFalse(spendings.remove(new Spending(inAll)));
+        assertEquals(0, spendings.getDailySpending(currentDate));
+    }
+
+    @Test
+    public void remove_entryInCurrentDay_totalsUpdated() {
+        spendings.remove(spendings.size() - 1);
+        assertEquals(0, spendings.getDailySpending(currentDate));
+        assertEquals(monthlySpending - dailySpending, spendings.getMonthlySpending(currentDate));
+        assertEquals(yearlySpending - dailySpending, spendings.getYearlySpending(currentDate));
+    }
+
+    @Test
+    public void removeById_entriesNearFront_laterEntriesKeepOrderAndIds() {
+        SpendingList list = new SpendingList();
+        ArrayList<Spending> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Spending spending = new Spending(i + 1, "item " + i, currentDate.plusDays(i), "", null, null, 0);
+            list.add(spending);
+            expected.add(spending);
+        }
+        assertEquals(expected.get(1), list.removeById(expected.get(1).getId()));
+        assertTrue(list.remove(expected.get(3)));
+        assertNull(list.removeById(expected.get(1).getId()));
+        expected.remove(3);
+        expected.remove(1);
+        assertEquals(expected, list);
+        assertEquals(expected.get(4), list.get(4));
+        assertEquals(4, list.findIndexOf(expected.get(4)));
+        assertEquals(expected.get(6), list.findById(expected.get(6).getId()));
+        assertEquals(2, list.getEntriesBetween(currentDate.plusDays(2), currentDate.plusDays(4)).get(1).getIndex());
+
+        Spending backdated = new Spending(5, "backdated", currentDate.plusDays(1), "", null, null, 0);
+        list.add(backdated);
+        expected.add(1, backdated);
+        assertEquals(expected, list);
+        assertEquals(1, list.findIndexOf(backdated));
+
+        for (int i = 0; i < 4; i++) {
+            list.removeById(expected.remove(0).getId());
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.get(2), list.get(2));
+        assertEquals(expected.get(3), list.findById(expected.get(3).getId()));
+    }
+
+    @Test
+    public void editEntry_dateMovedToPreviousYear_totalsUpdated() {
+        Spending inAll = spendings.get(spendings.size() - 1);
+        spendings.editEntry(inAll, entry -> entry.editDateWithLocalDate(currentDate.minusYears(1)));
+        assertEquals(0, spendings.getDailySpending(currentDate));
+        assertEquals(yearlySpending - dailySpending, spendings.getYearlySpending(currentDate));
+        assertEquals(dailySpending, spendings.getDailySpending(currentDate.minusYears(1)));
+    }
+
+    @Test
+    public void editEntry_dateChanged_entryMovedToDateOrder() {
+        Spending inAll = spendings.get(5);
+        Spending overYearAgo = spendings.get(0);
+        spendings.editEntry(inAll, entry -> entry.editDateWithLocalDate(currentDate.minusMonths(2)));
+        assertEquals(3, spendings.indexOf(inAll));
+        assertEquals("onlyInYear", spendings.get(2).getDescription());
+        assertEquals(3, spendings.findIndexOf(inAll));
+
+        spendings.editEntry(overYearAgo, entry -> entry.editDateWithLocalDate(currentDate.minusDays(2)));
+        assertEquals(5, spendings.indexOf(overYearAgo));
+        assertEquals("monthAndYear", spendings.get(4).getDescription());
+        for (int i = 1; i < spendings.size(); i++) {
+            assertFalse(spendings.get(i).getDate().isBefore(spendings.get(i - 1).getDate()));
+        }
+        assertEquals(2, spendings.getEntriesBetween(currentDate.minusDays(2), currentDate).size());
+        assertEquals(1001, spendings.getDailySpending(currentDate.minusDays(2)));
+    }
+
+    @Test
+    public void getEntriesBetween_inclusiveRange_matchingEntriesInOrder() {
+        ArrayList<IndexedEntry<Spending>> found = spendings.getEntriesBetween(currentDate.minusMonths(2),
+                currentDate.minusDays(2));
+        assertEquals(2, found.get(0).getIndex());
+        assertEquals(3, found.size());
+        assertEquals("onlyInYear", found.get(0).getEntry().getDescription());
+        assertEquals("notInCalendarMonth", found.get(1).getEntry().getDescription());
+        assertEquals("monthAndYear", found.get(2).getEntry().getDescription());
+        assertTrue(spendings.getEntriesBetween(currentDate.plusDays(1), currentDate.plusYears(1)).isEmpty());
+    }
+
+    @Test
+    public void findWithTag_tagEditedAndEntryRemoved_indexesInListOrder() {
+        Spending monthAndYear = spendings.get(4);
+        spendings.editEntry(monthAndYear, entry -> entry.editTag("food"));
+        spendings.editEntry(spendings.get(0), entry -> entry.editTag("food"));
+        spendings.add(new Spending(5, "lunch", currentDate.minusYears(1), "food", null, null, 0));
+        assertArrayEquals(new int[]{0, 1, 5}, getIndexes(spendings.findWithTag("food")));
+
+        spendings.remove(monthAndYear);
+        assertArrayEquals(new int[]{0, 1}, getIndexes(spendings.findWithTag("food")));
+        assertTrue(spendings.getTags().contains("food"));
+        spendings.removeIf(entry -> "food".equals(entry.getTag()));
+        assertFalse(spendings.getTags().contains("food"));
+        assertTrue(spendings.findWithTag("food").isEmpty());
+    }
+
+    @Test
+    public void findByDescription_editedAndShortText_matchesInListOrder() {
+        spendings.editEntry(spendings.get(5), entry -> entry.editDescription("yearly fee"));
+        ArrayList<IndexedEntry<Spending>> found = spendings.findByDescription("Year");
+        assertEquals(4, found.size());
+        assertEquals("overYearAgo", found.get(0).getEntry().getDescription());
+        assertEquals("monthAndYear", found.get(3).getEntry().getDescription());
+        assertEquals("yearly fee", spendings.findByDescription("early").get(0).getEntry().getDescription());
+        assertEquals(6, spendings.findByDescription("ar").size());
+        assertTrue(spendings.findByDescription("inAll fee").isEmpty());
+    }
+
+    @Test
+    public void findByDescription_largeList_indexedMatchesInListOrder() {
+        SpendingList list = new SpendingList();
+        for (int i = 0; i < 100; i++) {
+            list.add(new Spending(1, "item " + i, currentDate.minusDays(i % 7), null, null, null, 0));
+        }
+        list.editEntry(list.get(0), entry -> entry.editDescription("item 42 refund"));
+        ArrayList<IndexedEntry<Spending>> found = list.findByDescription("item 42");
+        assertEquals(2, found.size());
+        assertTrue(found.get(0).getEntry().getDate().isBefore(found.get(1).getEntry().getDate()));
+        assertTrue(list.findByDescription("refund 42").isEmpty());
+    }
+
+    @Test
+    public void getEntriesWithAmountBetween_afterChanges_matchesInListOrder() {
+        ArrayList<IndexedEntry<Spending>> found = spendings.getEntriesWithAmountBetween(10, 1000);
+        assertEquals(3, found.size());
+        assertEquals("notInCalendarYear", found.get(0).getEntry().getDescription());
+        assertEquals("onlyInYear", found.get(1).getEntry().getDescription());
+        assertEquals("monthAndYear", found.get(2).getEntry().getDescription());
+
+        spendings.add(new Spending(500, "earliest", currentDate.minusYears(3), null, null, null, 0));
+        spendings.editEntry(spendings.get(3), entry -> entry.editAmount("1000.01"));
+        found = spendings.getEntriesWithAmountBetween(10, 1000);
+        assertEquals("earliest", found.get(0).getEntry().getDescription());
+        assertEquals("notInCalendarYear", found.get(1).getEntry().getDescription());
+        assertEquals("monthAndYear", found.get(2).getEntry().getDescription());
+        assertEquals(5, found.get(2).getIndex());
+        assertTrue(spendings.getEntriesWithAmountBetween(2, 9.99).isEmpty());
+
+        spendings.remove(0);
+        found = spendings.getEntriesWithAmountBetween(10, 1000);
+        assertEquals(2, found.size());
+        assertEquals("notInCalendarYear", found.get(0).getEntry().getDescription());
+    }
+
+    @Test
+    public void virtualRecurrence_dailyEntry_occurrencesShownAndStoredWhenChanged() {
+        LocalDate today = LocalDate.now();
+        SpendingList list = new SpendingList();
+        list.setRecurrenceVirtual(true);
+        list.add(new Spending(7, "gym", today.minusDays(4), "", RecurrenceFrequency.DAILY, today.minusDays(4),
+                today.minusDays(4).getDayOfMonth()));
+        list.updateRecurrence();
+        assertEquals(1, list.size());
+        assertEquals(5, list.getEntriesWithOccurrences().size());
+        assertEquals(5, list.findByDescription("gym").size());
+        assertEquals(7, list.getDailySpending(today));
+        assertEquals(7, list.getDailySpending(today.minusDays(3)));
+        assertEquals(0, list.getDailySpending(today.minusDays(5)));
+
+        Spending storedEntry = list.findById(list.toEntryId(2));
+        assertEquals(3, list.size());
+        assertEquals(today.minusDays(2), storedEntry.getDate());
+        assertEquals(today.minusDays(2), list.get(0).getLastRecurrence());
+        assertEquals(5, list.getEntriesWithOccurrences().size());
+        assertEquals(7, list.getDailySpending(today.minusDays(2)));
+        assertEquals(7, list.getDailySpending(today));
+    }
+
+    @Test
+    public void toEntryId_historyNotLoaded_indexCountsFullHistoryAndLoadsOnlyYearsNeeded() {
+        SpendingList list = new SpendingList();
+        list.add(new Spending(5, "lunch", currentDate, "", RecurrenceFrequency.NONE, null, 0));
+        ArrayList<Spending> storedSpendings = new ArrayList<>(List.of(
+                new Spending(7, "older lunch", currentDate.minusYears(2), "", RecurrenceFrequency.NONE, null, 0),
+                new Spending(9, "old lunch", currentDate.minusYears(1), "", RecurrenceFrequency.NONE, null, 0)));
+        list.setHistory(new EntryListHistory() {
+            @Override
+            public void loadFrom(LocalDate date) {
+                for (Spending spending : new ArrayList<>(storedSpendings)) {
+                    if (spending.getDate().getYear() >= date.getYear()) {
+                        storedSpendings.remove(spending);
+                        list.add(spending);
+                    }
+                }
+            }
+
+            @Override
+            public int countNotLoaded() {
+                return storedSpendings.size();
+            }
+
+            @Override
+            public LocalDate findLatestNotLoaded() {
+                return storedSpendings.isEmpty() ? null
+                        : storedSpendings.get(storedSpendings.size() - 1).getDate().withDayOfYear(1);
+            }
+        });
+        assertEquals("lunch", list.findById(list.toEntryId(2)).getDescription());
+        assertEquals(1, list.size());
+        assertEquals("old lunch", list.findById(list.toEntryId(1)).getDescription());
+        assertEquals(2, list.size());
+        assertEquals(1, list.loadHistoryFrom(currentDate));
+        assertEquals("older lunch", list.findById(list.toEntryId(0)).getDescription());
+        assertEquals(3, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.toEntryId(3));
+    }
+
+    @Test
+    public void updateRecurrence_repeatedAndAfterEdit_onlyDueRecurrencesAdded() {
+        LocalDate today = LocalDate.now();
+        SpendingList list = new SpendingList();
+        Spending gym = new Spending(7, "gym", today.minusDays(2), "", RecurrenceFrequency.DAILY, today.minusDays(2),
+                today.minusDays(2).getDayOfMonth());
+        list.add(gym);
+        list.add(new Spending(9, "phone", today, "", RecurrenceFrequency.MONTHLY, today, today.getDayOfMonth()));
+        list.updateRecurrence();
+        assertEquals(4, list.size());
+        assertEquals(today, gym.getLastRecurrence());
+
+        list.editEntry(gym, entry -> entry.editDescription("gym membership"));
+        list.updateRecurrence();
+        assertEquals(4, list.size());
+
+        list.editEntry(gym, entry -> entry.editLastRecurrence(today.minusDays(1)));
+        list.updateRecurrence();
+        assertEquals(5, list.size());
+    }
+
+    private static int[] getIndexes(ArrayList<IndexedEntry<Spending>> indexedEntries) {
+        return indexedEntries.stream().mapToInt(IndexedEntry::getIndex).toArray();
+    }
 }